@@ -0,0 +1,53 @@
+package io.mcp.cncf.search;
+
+import io.mcp.cncf.benchmark.LandscapeFixture;
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-project lookups behind get_cncf_project: exact name, repository slug,
+ * and a miss that falls through to fuzzy suggestions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class ProjectLookupBenchmark {
+
+    private ProjectLookup lookup;
+
+    @Setup
+    public void setUp() {
+        lookup = LandscapeFixture.snapshot().projectLookup();
+    }
+
+    @Benchmark
+    public Optional<CncfProject> findByName() {
+        return lookup.find("Prometheus");
+    }
+
+    @Benchmark
+    public Optional<CncfProject> findByRepoSlug() {
+        return lookup.find("https://github.com/envoy/envoy");
+    }
+
+    @Benchmark
+    public List<String> missWithSuggestions() {
+        return lookup.find("promethues").isPresent() ? List.of() : lookup.suggest("promethues", 5);
+    }
+}
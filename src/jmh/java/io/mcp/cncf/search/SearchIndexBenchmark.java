@@ -0,0 +1,67 @@
+package io.mcp.cncf.search;
+
+import io.mcp.cncf.benchmark.LandscapeFixture;
+import io.mcp.cncf.config.SearchConstants;
+import io.mcp.cncf.model.CncfModel.SearchQuery;
+import io.mcp.cncf.model.CncfModel.SearchResult;
+import io.mcp.cncf.model.CncfModel.SortOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyword search latency across the query shapes seen in practice.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class SearchIndexBenchmark {
+
+    /**
+     * Query shapes: a short keyword shorter than a trigram, a common keyword,
+     * a long multi-word keyword, a keyword without matches, a category on its
+     * own, a keyword combined with a category, and a keyword restricted by
+     * maturity and tag filters.
+     */
+    @Param({"short", "common", "long", "noMatch", "categoryOnly", "keywordAndCategory", "filtered", "byRecency"})
+    public String shape;
+
+    private SearchIndex index;
+    private SearchQuery query;
+
+    @Setup
+    public void setUp() {
+        index = LandscapeFixture.snapshot().searchIndex();
+        int limit = SearchConstants.DEFAULT_SEARCH_LIMIT;
+        query = switch (shape) {
+            case "short" -> new SearchQuery("ku", null, null, null, limit);
+            case "common" -> new SearchQuery("mesh", null, null, null, limit);
+            case "long" -> new SearchQuery("distributed tracing platform", null, null, null, limit);
+            case "noMatch" -> new SearchQuery("zzqxv", null, null, null, limit);
+            case "categoryOnly" -> new SearchQuery(null, "Observability and Analysis", null, null, limit);
+            case "keywordAndCategory" -> new SearchQuery("proxy", "Orchestration & Management", null, null, limit);
+            case "filtered" -> new SearchQuery("cloud", null, "open-source", "graduated,incubating", limit);
+            case "byRecency" -> new SearchQuery("cloud", null, null, null, 0, SortOrder.RECENCY, limit);
+            default -> throw new IllegalArgumentException("Unknown query shape: " + shape);
+        };
+    }
+
+    @Benchmark
+    public List<SearchResult> search() {
+        return index.search(query);
+    }
+}
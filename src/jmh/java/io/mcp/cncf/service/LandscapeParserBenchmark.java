@@ -0,0 +1,84 @@
+package io.mcp.cncf.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.mcp.cncf.benchmark.LandscapeFixture;
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingestion of full.json: parsing into projects, and building a snapshot with
+ * every derived index. {@link #treeBaseline} runs the ingestion path from before
+ * streaming as it was: the body decoded into a String and hashed, read into a
+ * complete tree and walked item by item (see {@link TreeLandscapeParser}). Compare
+ * it with {@link #parse} for time, and with {@code -prof gc} for allocation.
+ * {@link #updateSnapshot} builds the next snapshot from a re-parse of the same
+ * document, the common refresh where little or nothing changed.
+ * {@link #ingestMalformed} parses a document with one item in eight malformed,
+ * the cost of reporting invalid items.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class LandscapeParserBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LandscapeParser parser = new LandscapeParser(objectMapper);
+    private final TreeLandscapeParser treeParser = new TreeLandscapeParser(objectMapper);
+    private byte[] json;
+    private byte[] malformedJson;
+    private List<CncfProject> projects;
+    private List<CncfProject> reparsed;
+    private LandscapeSnapshot previous;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = LandscapeFixture.json();
+        malformedJson = LandscapeFixture.malformedJson();
+        projects = parser.parse(new ByteArrayInputStream(json));
+        reparsed = parser.parse(new ByteArrayInputStream(json));
+        previous = LandscapeSnapshot.build(1, projects, Instant.EPOCH);
+    }
+
+    @Benchmark
+    public List<CncfProject> parse() throws IOException {
+        return parser.parse(new ByteArrayInputStream(json));
+    }
+
+    @Benchmark
+    public LandscapeParser.Ingestion ingestMalformed() throws IOException {
+        return parser.ingest(new ByteArrayInputStream(malformedJson));
+    }
+
+    @Benchmark
+    public List<CncfProject> treeBaseline() {
+        return treeParser.ingest(json);
+    }
+
+    @Benchmark
+    public LandscapeSnapshot buildSnapshot() {
+        return LandscapeSnapshot.build(1, projects, Instant.EPOCH);
+    }
+
+    @Benchmark
+    public LandscapeSnapshot updateSnapshot() {
+        return LandscapeSnapshot.build(2, LandscapeDiff.compute(previous, reparsed), ValidationReport.NONE, Instant.EPOCH);
+    }
+}
@@ -0,0 +1,63 @@
+package io.mcp.cncf.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.mcp.cncf.benchmark.LandscapeFixture;
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing full.json with item conversion spread over a varying number of worker
+ * threads, to show how ingestion scales with cores. One thread converts on a
+ * single worker; compare with {@link LandscapeParserBenchmark#parse}, which
+ * converts on the reading thread. Run on a captured document with
+ * {@code -Dcncf.fixture=/path/to/full.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class ParallelParseBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private byte[] json;
+    private ForkJoinPool pool;
+    private LandscapeParser parser;
+
+    @Setup
+    public void setUp() {
+        json = LandscapeFixture.json();
+        pool = new ForkJoinPool(threads);
+        parser = new LandscapeParser(new ObjectMapper(), pool, threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public List<CncfProject> parse() throws IOException {
+        return parser.parse(new ByteArrayInputStream(json));
+    }
+}
@@ -0,0 +1,216 @@
+package io.mcp.cncf.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.model.CncfModel.ProjectMetadata;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * The ingestion path before streaming, kept as the baseline of
+ * {@link LandscapeParserBenchmark#treeBaseline}.
+ *
+ * <p>The response body is decoded into one String, which is hashed for change
+ * detection, parsed into a complete {@link JsonNode} tree and then walked item by
+ * item with the original field lookups: every field read separately, tags and
+ * each GitHub value re-reading their nodes, commit times parsed into {@link Date}
+ * and discarded. Only the construction of the records is adapted to the current
+ * model.</p>
+ */
+final class TreeLandscapeParser {
+
+    private final ObjectMapper objectMapper;
+
+    TreeLandscapeParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Decodes, hashes and parses the downloaded body the way the refresh did.
+     *
+     * @param body Response body bytes
+     * @return Parsed projects
+     */
+    List<CncfProject> ingest(byte[] body) {
+        String landscapeData = new String(body, StandardCharsets.UTF_8);
+        if (landscapeData.trim().isEmpty()) {
+            return List.of();
+        }
+        String dataHash = Integer.toString(landscapeData.hashCode());
+        if (dataHash.isEmpty()) {
+            return List.of();
+        }
+        return parseLandscapeData(landscapeData);
+    }
+
+    private List<CncfProject> parseLandscapeData(String jsonData) {
+        List<CncfProject> projects = new ArrayList<>();
+        try {
+            JsonNode rootNode = objectMapper.readTree(jsonData);
+            JsonNode itemsNode = rootNode.path("items");
+            if (itemsNode.isArray()) {
+                for (JsonNode itemNode : itemsNode) {
+                    try {
+                        CncfProject project = parseProjectNode(itemNode);
+                        if (project != null) {
+                            projects.add(project);
+                        }
+                    } catch (Exception e) {
+                        // Dropped silently, as before
+                    }
+                }
+            }
+            return projects;
+        } catch (Exception e) {
+            return new ArrayList<>();
+        }
+    }
+
+    private CncfProject parseProjectNode(JsonNode projectNode) {
+        try {
+            String id = getNestedValue(projectNode, "id", "name");
+            if (id == null) {
+                return null;
+            }
+
+            String name = getNestedValue(projectNode, "name");
+            String description = getNestedValue(projectNode, "description");
+            String category = getNestedValue(projectNode, "category");
+            String subcategory = getNestedValue(projectNode, "subcategory");
+            String homepage = getNestedValue(projectNode, "homepage_url");
+            String repoUrl = getNestedValue(projectNode, "repo_url");
+            getNestedValue(projectNode, "logo_url");
+            getNestedValue(projectNode, "crunchbase_url");
+            getNestedValue(projectNode, "twitter_url");
+
+            getNestedValue(projectNode, "landscape");
+            String maturity = getNestedValue(projectNode, "maturity");
+            getNestedValue(projectNode, "oss");
+            String license = getNestedValue(projectNode, "license");
+            String acceptanceDate = getNestedValue(projectNode, "acceptance_date");
+            String graduationDate = getNestedValue(projectNode, "graduation_date");
+            String latestVersion = getNestedValue(projectNode, "latest_version");
+            String org = getNestedValue(projectNode, "organization");
+            String endUserSupport = getNestedValue(projectNode, "enduser_support");
+
+            List<String> tags = extractTags(projectNode);
+
+            Integer stars = githubInt(projectNode, "stars");
+            Integer forks = githubInt(projectNode, "forks");
+            Integer contributors = githubInt(projectNode, "contributors");
+            String contributorsStr = contributors != null ? String.valueOf(contributors) : "";
+            githubDate(projectNode, "last_commit_at");
+            githubDate(projectNode, "first_commit_at");
+
+            var metadata = new ProjectMetadata(
+                "",
+                acceptanceDate != null ? acceptanceDate : "",
+                graduationDate,
+                latestVersion,
+                license != null ? license : "",
+                org,
+                tags,
+                tags,
+                stars != null ? stars : 0,
+                forks != null ? forks : 0,
+                contributorsStr,
+                "",
+                "",
+                endUserSupport != null ? endUserSupport : "",
+                repoUrl != null ? repoUrl : "",
+                homepage != null ? homepage : "",
+                null,
+                null,
+                contributors != null ? contributors : 0
+            );
+
+            return new CncfProject(
+                id,
+                name != null ? name : "",
+                category != null ? category : "",
+                subcategory != null ? subcategory : "",
+                description != null ? description : "",
+                homepage != null ? homepage : "",
+                repoUrl != null ? repoUrl : "",
+                maturity != null ? maturity : "",
+                tags,
+                metadata
+            );
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private String getNestedValue(JsonNode node, String... paths) {
+        for (String path : paths) {
+            JsonNode valueNode = node.path(path);
+            if (!valueNode.isMissingNode() && !valueNode.isNull()) {
+                String value = valueNode.asText();
+                if (!value.trim().isEmpty()) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    private List<String> extractTags(JsonNode projectNode) {
+        List<String> tags = new ArrayList<>();
+
+        String maturity = getNestedValue(projectNode, "maturity");
+        if (maturity != null && !maturity.trim().isEmpty()) {
+            tags.add(maturity.toLowerCase().trim());
+        }
+        String category = getNestedValue(projectNode, "category");
+        if (category != null && !category.trim().isEmpty()) {
+            tags.add(category.toLowerCase().trim().replace(" ", "-"));
+        }
+        String landscape = getNestedValue(projectNode, "landscape");
+        if (landscape != null && !landscape.trim().isEmpty()) {
+            tags.add(landscape.toLowerCase().trim());
+        }
+        String oss = getNestedValue(projectNode, "oss");
+        if ("true".equalsIgnoreCase(oss)) {
+            tags.add("open-source");
+        }
+        if (tags.contains("graduated") || tags.contains("incubating") || tags.contains("sandbox")) {
+            tags.add("cncf");
+        }
+        return tags;
+    }
+
+    private Integer githubInt(JsonNode projectNode, String field) {
+        try {
+            JsonNode githubData = projectNode.path("github_data");
+            if (!githubData.isMissingNode()) {
+                JsonNode valueNode = githubData.path(field);
+                if (!valueNode.isMissingNode()) {
+                    return valueNode.asInt();
+                }
+            }
+        } catch (Exception e) {
+            // Defaulted, as before
+        }
+        return 0;
+    }
+
+    private Date githubDate(JsonNode projectNode, String field) {
+        try {
+            JsonNode githubData = projectNode.path("github_data");
+            if (!githubData.isMissingNode()) {
+                JsonNode valueNode = githubData.path(field);
+                if (!valueNode.isMissingNode() && !valueNode.isNull()) {
+                    return Date.from(Instant.parse(valueNode.asText()));
+                }
+            }
+        } catch (Exception e) {
+            // Defaulted, as before
+        }
+        return null;
+    }
+}
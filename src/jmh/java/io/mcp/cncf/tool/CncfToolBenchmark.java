@@ -0,0 +1,109 @@
+package io.mcp.cncf.tool;
+
+import io.mcp.cncf.benchmark.LandscapeFixture;
+import io.mcp.cncf.service.CncfDataRefreshService;
+import io.mcp.cncf.service.LandscapeSnapshot;
+import io.mcp.cncf.service.SearchResultCache;
+import io.quarkiverse.mcp.server.ToolResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end tool calls, search or lookup plus markdown rendering, against a
+ * fixed snapshot without a container or network. Repeated searches are served
+ * by the result cache, as they are in the server; uncached search cost is
+ * measured by the search index benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class CncfToolBenchmark {
+
+    /**
+     * Refresh service that always serves the fixture snapshot.
+     */
+    static final class FixtureRefreshService extends CncfDataRefreshService {
+        private final LandscapeSnapshot snapshot;
+
+        FixtureRefreshService(LandscapeSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public LandscapeSnapshot getSnapshot() {
+            return snapshot;
+        }
+
+        @Override
+        public void revalidateIfStale() {
+            // Fixture data never goes stale
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public DataState getState() {
+            return DataState.READY;
+        }
+    }
+
+    private CncfTool tool;
+
+    @Setup
+    public void setUp() {
+        tool = new CncfTool();
+        tool.refreshService = new FixtureRefreshService(LandscapeFixture.snapshot());
+        tool.searchResultCache = new SearchResultCache(512);
+    }
+
+    @Benchmark
+    public ToolResponse searchCncf() {
+        return tool.searchCncfProjects("mesh", null, 10, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public ToolResponse searchCncfMaxResults() {
+        return tool.searchCncfProjects("cloud", null, 50, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public ToolResponse searchCncfFiltered() {
+        return tool.searchCncfProjects(null, null, 50, null, "graduated,incubating", null, null, null);
+    }
+
+    @Benchmark
+    public ToolResponse searchCncfWithFacets() {
+        return tool.searchCncfProjects("cloud", null, 10, null, null, null, true, null);
+    }
+
+    @Benchmark
+    public ToolResponse getCncfProject() {
+        return tool.getCncfProject("Kubernetes");
+    }
+
+    @Benchmark
+    public ToolResponse listCncfCategories() {
+        return tool.listCncfCategories(null);
+    }
+
+    @Benchmark
+    public ToolResponse listCncfCategoryDrillDown() {
+        return tool.listCncfCategories("Runtime");
+    }
+}
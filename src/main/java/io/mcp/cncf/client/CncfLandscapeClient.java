@@ -1,7 +1,10 @@
 package io.mcp.cncf.client;
 
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 
 /**
@@ -30,9 +33,16 @@ public interface CncfLandscapeClient {
      * Retrieves the complete CNCF Landscape data.
      * This contains all projects, categories, and metadata in a single JSON file.
      *
-     * @return Full CNCF landscape data as JSON string
+     * <p>The request is conditional: when the validators of the last downloaded
+     * response are passed in, an unchanged file is answered with
+     * {@code 304 Not Modified} and no body. {@code null} validators are not sent.</p>
+     *
+     * @param ifNoneMatch ETag of the cached data, or null
+     * @param ifModifiedSince Last-Modified value of the cached data, or null
+     * @return Response with the full landscape JSON (200) or no body (304)
      */
     @GET
     @Path("/full.json")
-    String getFullLandscapeData();
+    Response getFullLandscapeData(@HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+                                  @HeaderParam(HttpHeaders.IF_MODIFIED_SINCE) String ifModifiedSince);
 }
\ No newline at end of file
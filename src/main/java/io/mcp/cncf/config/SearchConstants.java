@@ -1,5 +1,7 @@
 package io.mcp.cncf.config;
 
+import java.time.Duration;
+
 /**
  * Configuration constants for search and scoring algorithms.
  * Contains only essential constants used by the application.
@@ -16,6 +18,8 @@ public final class SearchConstants {
 
     // Scoring thresholds
     public static final double CONFIDENCE_THRESHOLD = 0.5;
+    public static final int POPULAR_STARS = 1000;
+    public static final Duration ACTIVE_MAINTENANCE_WINDOW = Duration.ofDays(90);
 
     // Project maturity values
     public static final String MATURITY_SANDBOX = "sandbox";
@@ -37,13 +37,13 @@ public final class CncfModel {
         }
 
         public boolean isPopular() {
-            return metadata != null && metadata.stars() >= 1000;
+            return metadata != null && metadata.stars() >= SearchConstants.POPULAR_STARS;
         }
 
         public String getQualityRating() {
             if (metadata == null) return "⭐⭐";
 
-            double stars = metadata.stars();
+            int stars = metadata.stars();
             if (stars >= 10000) return "⭐⭐⭐⭐⭐";
             if (stars >= 1000) return "⭐⭐⭐⭐";
             if (stars >= 100) return "⭐⭐⭐";
@@ -67,8 +67,8 @@ public final class CncfModel {
         String organization,
         List<String> maintainers,
         List<String> companies,
-        double stars,
-        double forks,
+        int stars,
+        int forks,
         String contributors,
         String openIssues,
         String crdbBacked,
@@ -76,6 +76,7 @@ public final class CncfModel {
         String repoUrl,
         String homepage,
         Instant lastCommitDate,
+        Instant firstCommitDate,
         int contributorCount
     ) {
         public ProjectMetadata {
@@ -87,11 +88,33 @@ public final class CncfModel {
         }
 
         public boolean isActivelyMaintained() {
+            return isActivelyMaintained(Instant.now());
+        }
+
+        /**
+         * Whether the last commit falls within the maintenance window before the
+         * reference time. Take the reference once per request when checking many projects.
+         */
+        public boolean isActivelyMaintained(Instant reference) {
             return lastCommitDate != null &&
-                   lastCommitDate.isAfter(Instant.now().minusSeconds(90 * 24 * 60 * 60));
+                   lastCommitDate.isAfter(reference.minus(SearchConstants.ACTIVE_MAINTENANCE_WINDOW));
         }
     }
 
+    /**
+     * Order of search results.
+     */
+    public enum SortOrder {
+        /** Best relevance score first. */
+        RELEVANCE,
+        /** Most recent commit first. */
+        RECENCY,
+        /** Most GitHub stars first. */
+        STARS,
+        /** Most contributors first. */
+        CONTRIBUTORS
+    }
+
     /**
      * Search query.
      */
@@ -100,9 +123,21 @@ public final class CncfModel {
         String category,
         String tag,
         String maturityLevel,
+        int minStars,
+        SortOrder sort,
         int limit
     ) {
+        public SearchQuery(String keyword, String category, String tag, String maturityLevel, int limit) {
+            this(keyword, category, tag, maturityLevel, 0, SortOrder.RELEVANCE, limit);
+        }
+
         public SearchQuery {
+            if (sort == null) {
+                sort = SortOrder.RELEVANCE;
+            }
+            if (minStars < 0) {
+                throw new IllegalArgumentException("Minimum stars cannot be negative");
+            }
             if (limit <= 0 || limit > SearchConstants.MAX_SEARCH_RESULTS) {
                 throw new IllegalArgumentException("Limit must be between 1 and " + SearchConstants.MAX_SEARCH_RESULTS);
             }
@@ -148,55 +183,6 @@ public final class CncfModel {
         }
     }
 
-    /**
-     * Calculate relevance score for search.
-     */
-    public static double calculateRelevanceScore(String query, CncfProject project) {
-        double score = 0.0;
-
-        if (query == null || query.isBlank()) {
-            return 0.0;
-        }
-
-        String lowerQuery = query.toLowerCase();
-
-        // Name matching (highest weight)
-        if (project.name().toLowerCase().contains(lowerQuery)) {
-            score += 40;
-        }
-
-        // Description matching
-        if (project.description() != null &&
-            project.description().toLowerCase().contains(lowerQuery)) {
-            score += 25;
-        }
-
-        // Tag matching
-        if (project.tags() != null) {
-            long tagMatches = project.tags().stream()
-                .filter(tag -> tag.toLowerCase().contains(lowerQuery))
-                .count();
-            score += tagMatches * 10;
-        }
-
-        // Category matching
-        if (project.category().toLowerCase().contains(lowerQuery)) {
-            score += 20;
-        }
-
-        // Popularity boost
-        if (project.isPopular()) {
-            score += 15;
-        }
-
-        // Graduation boost
-        if (project.isGraduated()) {
-            score += 10;
-        }
-
-        return Math.min(score, 100.0);
-    }
-
     private CncfModel() {
         // Utility class
     }
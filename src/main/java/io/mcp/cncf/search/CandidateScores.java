@@ -0,0 +1,135 @@
+package io.mcp.cncf.search;
+
+import java.util.Arrays;
+
+/**
+ * Running scores of the candidate projects of one keyword query, keyed by ordinal.
+ *
+ * <p>An open-addressing table sized to the candidates rather than to the whole
+ * landscape, so a selective keyword allocates only for the projects it touches.
+ * Each entry holds the project's score, starting at its boost, and the first
+ * field that matched. Slots are iterated with {@link #capacity()} and
+ * {@link #ordinalAt(int)}, which is negative for free slots.</p>
+ */
+final class CandidateScores {
+
+    static final int NO_FIELD = -1;
+
+    private static final int FREE = -1;
+
+    private int[] ordinals;
+    private int[] scores;
+    private int[] fields;
+    private int size;
+
+    /**
+     * @param expected Expected number of distinct ordinals; the table grows past it
+     */
+    CandidateScores(int expected) {
+        allocate(Integer.highestOneBit(Math.max(expected, 4) * 2 - 1) << 1);
+    }
+
+    /**
+     * Adds points to a project, inserting it with its boost first if absent.
+     *
+     * @param ordinal Project ordinal
+     * @param boost Initial score if the project is not in the table yet
+     * @param points Points to add
+     * @param field Field the points come from, or {@link #NO_FIELD}; only the first is kept
+     */
+    void add(int ordinal, int boost, int points, int field) {
+        int slot = slot(ordinal);
+        if (ordinals[slot] == FREE) {
+            if ((size + 1) * 2 > ordinals.length) {
+                grow();
+                slot = slot(ordinal);
+            }
+            ordinals[slot] = ordinal;
+            scores[slot] = boost;
+            fields[slot] = NO_FIELD;
+            size++;
+        }
+        scores[slot] += points;
+        if (fields[slot] == NO_FIELD) {
+            fields[slot] = field;
+        }
+    }
+
+    /**
+     * Number of slots, for iteration.
+     */
+    int capacity() {
+        return ordinals.length;
+    }
+
+    /**
+     * Ordinal in a slot, negative if the slot is free.
+     */
+    int ordinalAt(int slot) {
+        return ordinals[slot];
+    }
+
+    /**
+     * Score in an occupied slot.
+     */
+    int scoreAt(int slot) {
+        return scores[slot];
+    }
+
+    /**
+     * Score of a project in the table.
+     */
+    int score(int ordinal) {
+        return scores[existing(ordinal)];
+    }
+
+    /**
+     * First matched field of a project in the table, or {@link #NO_FIELD}.
+     */
+    int field(int ordinal) {
+        return fields[existing(ordinal)];
+    }
+
+    private int existing(int ordinal) {
+        int slot = slot(ordinal);
+        if (ordinals[slot] != ordinal) {
+            throw new IllegalArgumentException("Not a candidate: " + ordinal);
+        }
+        return slot;
+    }
+
+    /**
+     * Slot holding the ordinal, or the free slot where it would go.
+     */
+    private int slot(int ordinal) {
+        int mask = ordinals.length - 1;
+        int hash = ordinal * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (ordinals[slot] != FREE && ordinals[slot] != ordinal) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        int[] oldOrdinals = ordinals;
+        int[] oldScores = scores;
+        int[] oldFields = fields;
+        allocate(oldOrdinals.length * 2);
+        for (int i = 0; i < oldOrdinals.length; i++) {
+            if (oldOrdinals[i] != FREE) {
+                int slot = slot(oldOrdinals[i]);
+                ordinals[slot] = oldOrdinals[i];
+                scores[slot] = oldScores[i];
+                fields[slot] = oldFields[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        ordinals = new int[capacity];
+        Arrays.fill(ordinals, FREE);
+        scores = new int[capacity];
+        fields = new int[capacity];
+    }
+}
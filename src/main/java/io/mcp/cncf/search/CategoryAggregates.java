@@ -0,0 +1,136 @@
+package io.mcp.cncf.search;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Category, subcategory and maturity histograms of one set of projects.
+ *
+ * <p>Computed once per data refresh; every list is pre-sorted by count (descending)
+ * and then by name, so listing categories is a plain read.</p>
+ */
+public final class CategoryAggregates {
+
+    /** Label used for projects without a subcategory or maturity level. */
+    public static final String UNSPECIFIED = "unspecified";
+
+    private static final Comparator<Count> BY_COUNT =
+        Comparator.comparingInt(Count::count).reversed().thenComparing(Count::name);
+
+    public static final CategoryAggregates EMPTY = build(List.of());
+
+    /**
+     * Number of projects with a given value.
+     */
+    public record Count(String name, int count) {
+    }
+
+    /**
+     * Aggregates of a single category.
+     */
+    public record CategoryStats(String name, int projectCount, List<Count> subcategories, List<Count> maturities) {
+    }
+
+    private final int totalProjects;
+    private final List<CategoryStats> categories;
+    private final List<Count> maturities;
+    private final Map<String, CategoryStats> byName;
+
+    private CategoryAggregates(int totalProjects, List<CategoryStats> categories, List<Count> maturities) {
+        this.totalProjects = totalProjects;
+        this.categories = categories;
+        this.maturities = maturities;
+        this.byName = HashMap.newHashMap(categories.size());
+        for (CategoryStats stats : categories) {
+            byName.put(fold(stats.name()), stats);
+        }
+    }
+
+    /**
+     * Builds the aggregates for the given projects.
+     *
+     * @param projects Projects to aggregate
+     * @return New aggregates
+     */
+    public static CategoryAggregates build(List<CncfProject> projects) {
+        Map<String, Integer> categoryCounts = new HashMap<>();
+        Map<String, Map<String, Integer>> subcategoryCounts = new HashMap<>();
+        Map<String, Map<String, Integer>> maturityCounts = new HashMap<>();
+        Map<String, Integer> overallMaturities = new HashMap<>();
+
+        for (CncfProject project : projects) {
+            String category = project.category();
+            String maturity = labelOf(project.maturity());
+            categoryCounts.merge(category, 1, Integer::sum);
+            subcategoryCounts.computeIfAbsent(category, c -> new HashMap<>())
+                .merge(labelOf(project.subcategory()), 1, Integer::sum);
+            maturityCounts.computeIfAbsent(category, c -> new HashMap<>()).merge(maturity, 1, Integer::sum);
+            overallMaturities.merge(maturity, 1, Integer::sum);
+        }
+
+        List<CategoryStats> categories = new ArrayList<>(categoryCounts.size());
+        for (Count category : sorted(categoryCounts)) {
+            categories.add(new CategoryStats(
+                category.name(),
+                category.count(),
+                sorted(subcategoryCounts.get(category.name())),
+                sorted(maturityCounts.get(category.name()))
+            ));
+        }
+
+        return new CategoryAggregates(projects.size(), List.copyOf(categories), sorted(overallMaturities));
+    }
+
+    /**
+     * Total number of aggregated projects.
+     */
+    public int totalProjects() {
+        return totalProjects;
+    }
+
+    /**
+     * Categories sorted by project count, largest first.
+     */
+    public List<CategoryStats> categories() {
+        return categories;
+    }
+
+    /**
+     * Maturity histogram over all projects, largest first.
+     */
+    public List<Count> maturities() {
+        return maturities;
+    }
+
+    /**
+     * Finds a category by name, ignoring case.
+     *
+     * @param category Category name
+     * @return Aggregates of the category, if it exists
+     */
+    public Optional<CategoryStats> find(String category) {
+        return category == null ? Optional.empty() : Optional.ofNullable(byName.get(fold(category.trim())));
+    }
+
+    private static List<Count> sorted(Map<String, Integer> counts) {
+        List<Count> sorted = new ArrayList<>(counts.size());
+        counts.forEach((name, count) -> sorted.add(new Count(name, count)));
+        sorted.sort(BY_COUNT);
+        return List.copyOf(sorted);
+    }
+
+    static String labelOf(String value) {
+        return value == null || value.isBlank() ? UNSPECIFIED : value;
+    }
+
+    private static String fold(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
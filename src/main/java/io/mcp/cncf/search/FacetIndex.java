@@ -0,0 +1,135 @@
+package io.mcp.cncf.search;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.search.CategoryAggregates.Count;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-snapshot facet values of every project, as dictionary ids.
+ *
+ * <p>Each facet has a small dictionary of distinct values and an {@code int[]} with
+ * the value id of every project ordinal. Counting the facets of a match set is a
+ * single pass over its bitset, incrementing primitive counters; no project is
+ * looked at and nothing is queried again. Projects without a value are counted
+ * under {@link CategoryAggregates#UNSPECIFIED}.</p>
+ */
+public final class FacetIndex {
+
+    /** Tag the landscape parser adds to open source projects. */
+    static final String OPEN_SOURCE_TAG = "open-source";
+
+    private static final Comparator<Count> BY_COUNT =
+        Comparator.comparingInt(Count::count).reversed().thenComparing(Count::name);
+
+    /**
+     * Facet dimensions, in display order.
+     */
+    public enum Facet {
+        CATEGORY("Category"),
+        SUBCATEGORY("Subcategory"),
+        MATURITY("Maturity"),
+        LICENSE("License"),
+        OPEN_SOURCE("Open Source");
+
+        private final String label;
+
+        Facet(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    private static final Facet[] FACETS = Facet.values();
+
+    public static final FacetIndex EMPTY = build(List.of());
+
+    private final String[][] labels;
+    private final int[][] valueIds;
+
+    private FacetIndex(String[][] labels, int[][] valueIds) {
+        this.labels = labels;
+        this.valueIds = valueIds;
+    }
+
+    /**
+     * Builds the facet columns for the given projects.
+     *
+     * @param projects Projects to index, ordinals are positions in this list
+     * @return New facet index
+     */
+    public static FacetIndex build(List<CncfProject> projects) {
+        int size = projects.size();
+        String[][] labels = new String[FACETS.length][];
+        int[][] valueIds = new int[FACETS.length][size];
+
+        for (Facet facet : FACETS) {
+            Map<String, Integer> dictionary = new HashMap<>();
+            List<String> values = new ArrayList<>();
+            int[] ids = valueIds[facet.ordinal()];
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                ids[ordinal] = dictionary.computeIfAbsent(valueOf(facet, projects.get(ordinal)), value -> {
+                    values.add(value);
+                    return values.size() - 1;
+                });
+            }
+            labels[facet.ordinal()] = values.toArray(String[]::new);
+        }
+        return new FacetIndex(labels, valueIds);
+    }
+
+    /**
+     * Counts every facet over a match set.
+     *
+     * @param matches Bitset of matching ordinals
+     * @return Value counts per facet, each sorted by count (descending) and then by name
+     */
+    public Map<Facet, List<Count>> count(long[] matches) {
+        int[][] counters = new int[FACETS.length][];
+        for (Facet facet : FACETS) {
+            counters[facet.ordinal()] = new int[labels[facet.ordinal()].length];
+        }
+
+        for (int word = 0; word < matches.length; word++) {
+            for (long bits = matches[word]; bits != 0; bits &= bits - 1) {
+                int ordinal = (word << 6) + Long.numberOfTrailingZeros(bits);
+                for (int facet = 0; facet < counters.length; facet++) {
+                    counters[facet][valueIds[facet][ordinal]]++;
+                }
+            }
+        }
+
+        Map<Facet, List<Count>> facets = new EnumMap<>(Facet.class);
+        for (Facet facet : FACETS) {
+            int[] counts = counters[facet.ordinal()];
+            String[] names = labels[facet.ordinal()];
+            List<Count> values = new ArrayList<>();
+            for (int id = 0; id < counts.length; id++) {
+                if (counts[id] > 0) {
+                    values.add(new Count(names[id], counts[id]));
+                }
+            }
+            values.sort(BY_COUNT);
+            facets.put(facet, List.copyOf(values));
+        }
+        return facets;
+    }
+
+    private static String valueOf(Facet facet, CncfProject project) {
+        return switch (facet) {
+            case CATEGORY -> project.category();
+            case SUBCATEGORY -> CategoryAggregates.labelOf(project.subcategory());
+            case MATURITY -> CategoryAggregates.labelOf(project.maturity());
+            case LICENSE -> CategoryAggregates.labelOf(project.metadata() != null ? project.metadata().license() : null);
+            case OPEN_SOURCE -> project.tags() != null && project.tags().contains(OPEN_SOURCE_TAG) ? "yes" : "no";
+        };
+    }
+}
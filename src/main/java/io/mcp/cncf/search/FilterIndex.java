@@ -0,0 +1,169 @@
+package io.mcp.cncf.search;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Per-snapshot bitsets of project ordinals by category, maturity level and tag.
+ *
+ * <p>Each distinct value maps to a {@code long[]} with one bit per project, built
+ * once per data refresh. Filter values are compared ignoring case; projects
+ * without a maturity level are filed under {@link CategoryAggregates#UNSPECIFIED}.
+ * A filter expression is a comma-separated list of values that are OR-ed together,
+ * and different filters are AND-ed, all word by word, so evaluating a filter costs
+ * the same no matter how many projects match it.</p>
+ */
+public final class FilterIndex {
+
+    public static final FilterIndex EMPTY = build(List.of());
+
+    private final int size;
+    private final Map<String, long[]> byCategory;
+    private final Map<String, long[]> byMaturity;
+    private final Map<String, long[]> byTag;
+
+    private FilterIndex(int size, Map<String, long[]> byCategory, Map<String, long[]> byMaturity,
+                        Map<String, long[]> byTag) {
+        this.size = size;
+        this.byCategory = byCategory;
+        this.byMaturity = byMaturity;
+        this.byTag = byTag;
+    }
+
+    /**
+     * Builds the bitsets for the given projects.
+     *
+     * @param projects Projects to index, ordinals are positions in this list
+     * @return New filter index
+     */
+    public static FilterIndex build(List<CncfProject> projects) {
+        int size = projects.size();
+        Map<String, long[]> byCategory = new HashMap<>();
+        Map<String, long[]> byMaturity = new HashMap<>();
+        Map<String, long[]> byTag = new HashMap<>();
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            CncfProject project = projects.get(ordinal);
+            set(byCategory, project.category(), size, ordinal);
+            String maturity = project.maturity();
+            set(byMaturity, maturity == null || maturity.isBlank() ? CategoryAggregates.UNSPECIFIED : maturity, size, ordinal);
+            if (project.tags() != null) {
+                for (String tag : project.tags()) {
+                    set(byTag, tag, size, ordinal);
+                }
+            }
+        }
+        return new FilterIndex(size, byCategory, byMaturity, byTag);
+    }
+
+    /**
+     * Projects in the category, ignoring case.
+     *
+     * @param category Category name
+     * @return Bitset of ordinals, or null if no project has the category
+     */
+    public long[] category(String category) {
+        return category == null ? null : byCategory.get(caseless(category));
+    }
+
+    /**
+     * Evaluates tag and maturity filters. Each argument is a comma-separated list of
+     * values, any of which may match; both filters must match when both are given.
+     *
+     * @param tags Tag filter, or null
+     * @param maturities Maturity filter, or null
+     * @return Bitset of matching ordinals, or null if neither filter is given
+     */
+    public long[] matching(String tags, String maturities) {
+        long[] tagMask = anyOf(byTag, tags);
+        long[] maturityMask = anyOf(byMaturity, maturities);
+        if (tagMask == null) {
+            return maturityMask;
+        }
+        if (maturityMask != null) {
+            for (int i = 0; i < tagMask.length; i++) {
+                tagMask[i] &= maturityMask[i];
+            }
+        }
+        return tagMask;
+    }
+
+    /**
+     * Whether the ordinal is set in the bitset.
+     */
+    public static boolean contains(long[] bits, int ordinal) {
+        return (bits[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Folds each char the way {@link String#equalsIgnoreCase} compares them, so
+     * two values are equal after folding exactly when they are equal ignoring case.
+     *
+     * @param value Value to fold
+     * @return Folded value, or null for null
+     */
+    public static String caseless(String value) {
+        if (value == null) {
+            return null;
+        }
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Canonical form of a filter expression: values trimmed, folded with
+     * {@link #caseless}, de-duplicated, sorted and joined with commas. Two
+     * expressions with the same canonical form match the same projects.
+     *
+     * @param values Comma-separated filter values, or null
+     * @return Canonical expression, or null if no filter is given
+     */
+    public static String normalize(String values) {
+        if (values == null || values.isBlank()) {
+            return null;
+        }
+        TreeSet<String> canonical = new TreeSet<>();
+        for (String value : values.split(",")) {
+            String folded = caseless(value.trim());
+            if (!folded.isEmpty()) {
+                canonical.add(folded);
+            }
+        }
+        return String.join(",", canonical);
+    }
+
+    /**
+     * OR of the bitsets of the comma-separated values; a fresh array the caller may modify.
+     */
+    private long[] anyOf(Map<String, long[]> bitsets, String values) {
+        if (values == null || values.isBlank()) {
+            return null;
+        }
+        long[] result = new long[words(size)];
+        for (String value : values.split(",")) {
+            long[] bits = bitsets.get(caseless(value.trim()));
+            if (bits != null) {
+                for (int i = 0; i < result.length; i++) {
+                    result[i] |= bits[i];
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void set(Map<String, long[]> bitsets, String value, int size, int ordinal) {
+        long[] bits = bitsets.computeIfAbsent(caseless(value), v -> new long[words(size)]);
+        bits[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    private static int words(int size) {
+        return (size + 63) >>> 6;
+    }
+}
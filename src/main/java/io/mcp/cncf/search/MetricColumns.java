@@ -0,0 +1,112 @@
+package io.mcp.cncf.search;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.model.CncfModel.ProjectMetadata;
+import io.mcp.cncf.model.CncfModel.SortOrder;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Per-snapshot GitHub metrics of every project as primitive columns.
+ *
+ * <p>Star counts are kept as an {@code int[]} indexed by project ordinal, so a star
+ * threshold is a plain loop over one array, without touching the project records.
+ * For each {@link SortOrder} other than relevance the ordinals are sorted once at
+ * build time by last commit time, stars or contributor count, best first with ties
+ * in ordinal order, so ordering a result set is a walk down that array. Projects
+ * without metadata count as 0; projects without a commit time come last by recency.</p>
+ */
+public final class MetricColumns {
+
+    /** Sorts projects without a known commit time last. */
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private final int[] stars;
+    private final int[] byRecency;
+    private final int[] byStars;
+    private final int[] byContributors;
+
+    private MetricColumns(int[] stars, int[] byRecency, int[] byStars, int[] byContributors) {
+        this.stars = stars;
+        this.byRecency = byRecency;
+        this.byStars = byStars;
+        this.byContributors = byContributors;
+    }
+
+    /**
+     * Builds the columns for the given projects.
+     *
+     * @param projects Projects to index, ordinals are positions in this list
+     * @return New metric columns
+     */
+    public static MetricColumns build(List<CncfProject> projects) {
+        int size = projects.size();
+        int[] stars = new int[size];
+        int[] contributors = new int[size];
+        long[] lastCommits = new long[size];
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            ProjectMetadata metadata = projects.get(ordinal).metadata();
+            if (metadata == null) {
+                lastCommits[ordinal] = NO_TIME;
+                continue;
+            }
+            stars[ordinal] = metadata.stars();
+            contributors[ordinal] = metadata.contributorCount();
+            lastCommits[ordinal] = metadata.lastCommitDate() != null ? metadata.lastCommitDate().getEpochSecond() : NO_TIME;
+        }
+        return new MetricColumns(stars, sortedDescending(lastCommits), sortedDescending(stars),
+            sortedDescending(contributors));
+    }
+
+    /**
+     * All ordinals in the given order.
+     *
+     * @param order Sort order other than {@link SortOrder#RELEVANCE}
+     * @return Pre-sorted ordinals, best first; must not be modified
+     */
+    public int[] ordinals(SortOrder order) {
+        return switch (order) {
+            case RECENCY -> byRecency;
+            case STARS -> byStars;
+            case CONTRIBUTORS -> byContributors;
+            case RELEVANCE -> throw new IllegalArgumentException("Relevance order depends on the query");
+        };
+    }
+
+    /**
+     * Projects with at least the given number of stars.
+     *
+     * @param minStars Star threshold
+     * @return Bitset of ordinals
+     */
+    public long[] withStarsAtLeast(int minStars) {
+        long[] bits = new long[(stars.length + 63) >>> 6];
+        for (int ordinal = 0; ordinal < stars.length; ordinal++) {
+            if (stars[ordinal] >= minStars) {
+                bits[ordinal >>> 6] |= 1L << ordinal;
+            }
+        }
+        return bits;
+    }
+
+    private static int[] sortedDescending(int[] values) {
+        long[] widened = new long[values.length];
+        Arrays.setAll(widened, i -> values[i]);
+        return sortedDescending(widened);
+    }
+
+    /**
+     * Ordinals by value, highest first, ties in ordinal order. Runs once per snapshot.
+     */
+    private static int[] sortedDescending(long[] values) {
+        return IntStream.range(0, values.length).boxed()
+            .sorted(Comparator.comparingLong((Integer ordinal) -> values[ordinal]).reversed()
+                .thenComparingInt(ordinal -> ordinal))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+}
@@ -0,0 +1,231 @@
+package io.mcp.cncf.search;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Per-refresh lookup of a single project by name, id or repository slug.
+ *
+ * <p>All keys are normalised once at build time, so a lookup is a few hash probes
+ * instead of a scan over every project. When nothing matches exactly, near matches
+ * are suggested from a precomputed trigram index over project names.</p>
+ */
+public final class ProjectLookup {
+
+    public static final ProjectLookup EMPTY = build(List.of());
+
+    private static final double MIN_SIMILARITY = 0.3;
+
+    private final List<CncfProject> projects;
+    private final Map<String, CncfProject> byName;
+    private final Map<String, CncfProject> byId;
+    private final Map<String, CncfProject> byRepoSlug;
+    private final Map<String, CncfProject> byCompactName;
+    private final Map<Long, int[]> nameTrigrams;
+    private final int[] nameTrigramCounts;
+
+    private ProjectLookup(List<CncfProject> projects, Map<String, CncfProject> byName, Map<String, CncfProject> byId,
+                          Map<String, CncfProject> byRepoSlug, Map<String, CncfProject> byCompactName,
+                          Map<Long, int[]> nameTrigrams, int[] nameTrigramCounts) {
+        this.projects = projects;
+        this.byName = byName;
+        this.byId = byId;
+        this.byRepoSlug = byRepoSlug;
+        this.byCompactName = byCompactName;
+        this.nameTrigrams = nameTrigrams;
+        this.nameTrigramCounts = nameTrigramCounts;
+    }
+
+    /**
+     * Builds the lookup for the given projects. When several projects share a key
+     * the first one in list order wins.
+     *
+     * @param projects Projects to index, ordinals are positions in this list
+     * @return New lookup
+     */
+    public static ProjectLookup build(List<CncfProject> projects) {
+        Map<String, CncfProject> byName = HashMap.newHashMap(projects.size());
+        Map<String, CncfProject> byId = HashMap.newHashMap(projects.size());
+        Map<String, CncfProject> byRepoSlug = HashMap.newHashMap(projects.size());
+        Map<String, CncfProject> byCompactName = HashMap.newHashMap(projects.size());
+        Map<Long, List<Integer>> trigramBuilders = new HashMap<>();
+        int[] nameTrigramCounts = new int[projects.size()];
+
+        for (int ordinal = 0; ordinal < projects.size(); ordinal++) {
+            CncfProject project = projects.get(ordinal);
+            String name = normalize(project.name());
+            byName.putIfAbsent(name, project);
+            byId.putIfAbsent(normalize(project.id()), project);
+            String slug = repoSlug(project.repoUrl());
+            if (slug != null) {
+                byRepoSlug.putIfAbsent(slug, project);
+            }
+            String compactName = compact(name);
+            if (!compactName.isEmpty()) {
+                byCompactName.putIfAbsent(compactName, project);
+            }
+
+            Set<Long> grams = paddedTrigrams(name);
+            nameTrigramCounts[ordinal] = grams.size();
+            for (Long gram : grams) {
+                trigramBuilders.computeIfAbsent(gram, g -> new ArrayList<>()).add(ordinal);
+            }
+        }
+
+        Map<Long, int[]> nameTrigrams = HashMap.newHashMap(trigramBuilders.size());
+        trigramBuilders.forEach((gram, ordinals) ->
+            nameTrigrams.put(gram, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new ProjectLookup(projects, byName, byId, byRepoSlug, byCompactName, nameTrigrams, nameTrigramCounts);
+    }
+
+    /**
+     * Finds a project by name (case-insensitive), id, repository slug
+     * ({@code owner/repo}) or name ignoring spaces and punctuation, in that order.
+     *
+     * @param query Project name, id or repository slug
+     * @return Matching project, if any
+     */
+    public Optional<CncfProject> find(String query) {
+        if (query == null || query.isBlank()) {
+            return Optional.empty();
+        }
+        String key = normalize(query);
+
+        CncfProject project = byName.get(key);
+        if (project == null) {
+            project = byId.get(key);
+        }
+        if (project == null) {
+            String slug = repoSlug(key);
+            project = byRepoSlug.get(slug != null ? slug : key);
+        }
+        if (project == null) {
+            project = byCompactName.get(compact(key));
+        }
+        return Optional.ofNullable(project);
+    }
+
+    /**
+     * Suggests project names similar to the query, best match first.
+     * Similarity is the Dice coefficient of the padded name trigrams.
+     *
+     * @param query Name that was not found
+     * @param max Maximum number of suggestions
+     * @return Distinct project names, possibly empty
+     */
+    public List<String> suggest(String query, int max) {
+        if (query == null || query.isBlank() || projects.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> queryGrams = paddedTrigrams(normalize(query));
+        int[] overlap = new int[projects.size()];
+        for (Long gram : queryGrams) {
+            int[] ordinals = nameTrigrams.get(gram);
+            if (ordinals != null) {
+                for (int ordinal : ordinals) {
+                    overlap[ordinal]++;
+                }
+            }
+        }
+
+        List<double[]> candidates = new ArrayList<>();
+        for (int ordinal = 0; ordinal < overlap.length; ordinal++) {
+            if (overlap[ordinal] == 0) {
+                continue;
+            }
+            double similarity = 2.0 * overlap[ordinal] / (queryGrams.size() + nameTrigramCounts[ordinal]);
+            if (similarity >= MIN_SIMILARITY) {
+                candidates.add(new double[] {similarity, ordinal});
+            }
+        }
+        candidates.sort((a, b) -> a[0] != b[0] ? Double.compare(b[0], a[0]) : Double.compare(a[1], b[1]));
+
+        Set<String> names = new LinkedHashSet<>();
+        for (double[] candidate : candidates) {
+            names.add(projects.get((int) candidate[1]).name());
+            if (names.size() >= max) {
+                break;
+            }
+        }
+        return List.copyOf(names);
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Drops everything but letters and digits, so "Cert Manager" finds "cert-manager".
+     */
+    private static String compact(String value) {
+        StringBuilder compact = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                compact.append(c);
+            }
+        }
+        return compact.toString();
+    }
+
+    /**
+     * Extracts {@code owner/repo} from a repository URL, or null if it has no such path.
+     */
+    private static String repoSlug(String repoUrl) {
+        if (repoUrl == null || repoUrl.isBlank()) {
+            return null;
+        }
+        String path = normalize(repoUrl);
+        int scheme = path.indexOf("://");
+        if (scheme >= 0) {
+            int hostEnd = path.indexOf('/', scheme + 3);
+            if (hostEnd < 0) {
+                return null;
+            }
+            path = path.substring(hostEnd + 1);
+        } else if (path.indexOf('/') > 0 && path.substring(0, path.indexOf('/')).contains(".")) {
+            // "github.com/owner/repo" without a scheme
+            path = path.substring(path.indexOf('/') + 1);
+        }
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        if (path.endsWith(".git")) {
+            path = path.substring(0, path.length() - 4);
+        }
+        String[] segments = path.split("/");
+        if (segments.length < 2 || segments[0].isEmpty() || segments[1].isEmpty()) {
+            return null;
+        }
+        return segments[0] + "/" + segments[1];
+    }
+
+    /**
+     * Distinct trigrams of the name padded with two leading and one trailing space,
+     * so short names and word starts still produce grams.
+     */
+    private static Set<Long> paddedTrigrams(String name) {
+        String padded = "  " + name + " ";
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * Number of projects in the lookup.
+     */
+    public int size() {
+        return projects.size();
+    }
+}
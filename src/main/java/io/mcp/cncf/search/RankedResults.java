@@ -0,0 +1,76 @@
+package io.mcp.cncf.search;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.model.CncfModel.SearchQuery;
+import io.mcp.cncf.model.CncfModel.SearchResult;
+import io.mcp.cncf.search.CategoryAggregates.Count;
+import io.mcp.cncf.search.FacetIndex.Facet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranked matches of one query as primitive columns, best first.
+ *
+ * <p>Independent of the requested limit: a ranking computed to some depth serves
+ * every limit up to that depth as a prefix, which is what makes it cacheable.
+ * The complete match set is kept as a bitset, so facets can be counted over every
+ * match and not just the ranked ones. Instances are immutable.</p>
+ */
+public final class RankedResults {
+
+    private final int[] ordinals;
+    private final int[] scores;
+    private final String[] matchedFields;
+    private final long[] matches;
+    private final int matchCount;
+
+    RankedResults(int[] ordinals, int[] scores, String[] matchedFields, long[] matches, int matchCount) {
+        this.ordinals = ordinals;
+        this.scores = scores;
+        this.matchedFields = matchedFields;
+        this.matches = matches;
+        this.matchCount = matchCount;
+    }
+
+    /**
+     * Number of ranked matches.
+     */
+    public int size() {
+        return ordinals.length;
+    }
+
+    /**
+     * Number of projects matching the query, ranked or not.
+     */
+    public int matchCount() {
+        return matchCount;
+    }
+
+    /**
+     * Counts the facets of every project matching the query.
+     *
+     * @param facets Facet index of the snapshot the ranking was computed on
+     * @return Value counts per facet
+     */
+    public Map<Facet, List<Count>> facets(FacetIndex facets) {
+        return facets.count(matches);
+    }
+
+    /**
+     * Materialises the first {@code query.limit()} matches.
+     *
+     * @param projects Projects the ordinals refer to
+     * @param query Query the results are reported for
+     * @return Search results, best first
+     */
+    public List<SearchResult> toResults(List<CncfProject> projects, SearchQuery query) {
+        int count = Math.min(query.limit(), ordinals.length);
+        List<SearchResult> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(new SearchResult(projects.get(ordinals[i]), scores[i], matchedFields[i], query));
+        }
+        return List.copyOf(results);
+    }
+}
@@ -0,0 +1,191 @@
+package io.mcp.cncf.search;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.search.SearchIndex.Field;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The single relevance scoring engine for CNCF projects.
+ *
+ * <p>Project name, description, category and tags are case-folded once per data
+ * refresh into {@code char} arrays, and the fixed popularity and graduation boosts
+ * are precomputed per project. Scoring a candidate is then a substring scan over
+ * those arrays with weights read from a primitive table, with no lowercasing and no
+ * allocation per project.</p>
+ *
+ * <p>A field contains the keyword case-insensitively to match; matching fields add
+ * their {@link Field#weight() weight}, tags once per matching tag. A category filter
+ * equal to the project category (ignoring case) adds {@value #CATEGORY_FILTER_WEIGHT},
+ * popular projects {@value #POPULARITY_BOOST} and graduated projects
+ * {@value #GRADUATION_BOOST}. The total is capped at {@value #MAX_SCORE}.</p>
+ */
+public final class RelevanceScorer {
+
+    public static final int CATEGORY_FILTER_WEIGHT = 30;
+    public static final int POPULARITY_BOOST = 15;
+    public static final int GRADUATION_BOOST = 10;
+    public static final int MAX_SCORE = 100;
+
+    private static final Field[] FIELDS = Field.values();
+    private static final int[] FIELD_WEIGHTS = new int[FIELDS.length];
+
+    static {
+        for (Field field : FIELDS) {
+            FIELD_WEIGHTS[field.ordinal()] = field.weight();
+        }
+    }
+
+    private static final char[][] NO_TAGS = new char[0][];
+
+    // Case-folded field text per ordinal; tags keep one entry per tag
+    private final char[][] names;
+    private final char[][] descriptions;
+    private final char[][] categories;
+    private final char[][][] tags;
+    private final int[] boosts;
+
+    private RelevanceScorer(char[][] names, char[][] descriptions, char[][] categories, char[][][] tags, int[] boosts) {
+        this.names = names;
+        this.descriptions = descriptions;
+        this.categories = categories;
+        this.tags = tags;
+        this.boosts = boosts;
+    }
+
+    /**
+     * Folds the scored fields of the given projects.
+     *
+     * @param projects Projects to score, ordinals are positions in this list
+     * @return New scorer
+     */
+    public static RelevanceScorer build(List<CncfProject> projects) {
+        int size = projects.size();
+        char[][] names = new char[size][];
+        char[][] descriptions = new char[size][];
+        char[][] categories = new char[size][];
+        char[][][] tags = new char[size][][];
+        int[] boosts = new int[size];
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            CncfProject project = projects.get(ordinal);
+            names[ordinal] = fold(project.name());
+            descriptions[ordinal] = fold(project.description() != null ? project.description() : "");
+            categories[ordinal] = fold(project.category());
+            List<String> projectTags = project.tags();
+            if (projectTags == null || projectTags.isEmpty()) {
+                tags[ordinal] = NO_TAGS;
+            } else {
+                tags[ordinal] = new char[projectTags.size()][];
+                for (int i = 0; i < projectTags.size(); i++) {
+                    tags[ordinal][i] = fold(projectTags.get(i));
+                }
+            }
+
+            if (project.isPopular()) {
+                boosts[ordinal] += POPULARITY_BOOST;
+            }
+            if (project.isGraduated()) {
+                boosts[ordinal] += GRADUATION_BOOST;
+            }
+        }
+        return new RelevanceScorer(names, descriptions, categories, tags, boosts);
+    }
+
+    /**
+     * Score contributed by one field of one project.
+     *
+     * @param field Scored field
+     * @param ordinal Project ordinal
+     * @param keyword Folded keyword
+     * @return Field weight times the number of matches, 0 if the field does not match
+     */
+    public int fieldScore(Field field, int ordinal, char[] keyword) {
+        return FIELD_WEIGHTS[field.ordinal()] * matches(field, ordinal, keyword);
+    }
+
+    /**
+     * Number of matches of the keyword in a project field: 0 or 1 for single-valued
+     * fields, the number of matching tags for tags.
+     */
+    int matches(Field field, int ordinal, char[] keyword) {
+        return switch (field) {
+            case NAME -> contains(names[ordinal], keyword) ? 1 : 0;
+            case DESCRIPTION -> contains(descriptions[ordinal], keyword) ? 1 : 0;
+            case CATEGORY -> contains(categories[ordinal], keyword) ? 1 : 0;
+            case TAG -> {
+                int count = 0;
+                for (char[] tag : tags[ordinal]) {
+                    if (contains(tag, keyword)) {
+                        count++;
+                    }
+                }
+                yield count;
+            }
+        };
+    }
+
+    /**
+     * Popularity and graduation boost of one project.
+     */
+    public int boost(int ordinal) {
+        return boosts[ordinal];
+    }
+
+    /**
+     * Folded text of a single-valued field, for building the trigram postings.
+     */
+    char[] text(Field field, int ordinal) {
+        return switch (field) {
+            case NAME -> names[ordinal];
+            case DESCRIPTION -> descriptions[ordinal];
+            case CATEGORY -> categories[ordinal];
+            case TAG -> throw new IllegalArgumentException("Tags are multi-valued");
+        };
+    }
+
+    /**
+     * Folded tags of one project.
+     */
+    char[][] tags(int ordinal) {
+        return tags[ordinal];
+    }
+
+    /**
+     * Case-folds text the way every indexed field is folded.
+     *
+     * @param text Text to fold
+     * @return Folded characters
+     */
+    public static char[] fold(String text) {
+        return text.toLowerCase(Locale.ROOT).toCharArray();
+    }
+
+    /**
+     * Substring test on folded text, equivalent to {@link String#contains}.
+     */
+    static boolean contains(char[] text, char[] keyword) {
+        int last = text.length - keyword.length;
+        if (last < 0) {
+            return false;
+        }
+        if (keyword.length == 0) {
+            return true;
+        }
+        char first = keyword[0];
+        for (int i = 0; i <= last; i++) {
+            if (text[i] != first) {
+                continue;
+            }
+            int j = 1;
+            while (j < keyword.length && text[i + j] == keyword[j]) {
+                j++;
+            }
+            if (j == keyword.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
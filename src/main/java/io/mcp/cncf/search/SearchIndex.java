@@ -0,0 +1,438 @@
+package io.mcp.cncf.search;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.model.CncfModel.SearchQuery;
+import io.mcp.cncf.model.CncfModel.SearchResult;
+import io.mcp.cncf.model.CncfModel.SortOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trigram index over a single set of CNCF projects.
+ *
+ * <p>Built once per data refresh: project name, description, category and tags are
+ * case-folded once by the {@link RelevanceScorer} and every three-character window
+ * is recorded in per-field postings lists of project ordinals. A keyword query
+ * intersects the postings of the keyword's trigrams to find candidates and then
+ * scores each candidate with a substring check on the pre-folded text, so results
+ * have exactly the
+ * {@code contains} semantics of a full scan ("etes" matches "Kubernetes") without
+ * lowercasing or visiting every project. The index keeps a reference to the project
+ * list it was built from and is immutable, so publishing it publishes both atomically.</p>
+ */
+public final class SearchIndex {
+
+    /**
+     * Indexed text fields with their relevance weights.
+     */
+    public enum Field {
+        NAME("name", 40),
+        DESCRIPTION("description", 25),
+        CATEGORY("category", 20),
+        TAG("tags", 10);
+
+        private final String label;
+        private final int weight;
+
+        Field(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+
+        public String label() {
+            return label;
+        }
+
+        public int weight() {
+            return weight;
+        }
+    }
+
+    private static final int GRAM_LENGTH = 3;
+    private static final Field[] FIELDS = Field.values();
+    private static final int NO_FIELD = CandidateScores.NO_FIELD;
+    private static final int CATEGORY_FILTER_FIELD = Field.CATEGORY.ordinal();
+    private static final int[] NO_ORDINALS = new int[0];
+
+    public static final SearchIndex EMPTY = build(List.of());
+
+    private final List<CncfProject> projects;
+    private final RelevanceScorer scorer;
+    private final List<Map<Long, int[]>> trigramPostings;
+    private final FilterIndex filters;
+    private final FacetIndex facets;
+    private final MetricColumns metrics;
+    private final int[] allOrdinals;
+    private final int[] boosted;
+
+    private SearchIndex(List<CncfProject> projects, RelevanceScorer scorer, List<Map<Long, int[]>> trigramPostings,
+                        FilterIndex filters, FacetIndex facets, MetricColumns metrics) {
+        this.projects = projects;
+        this.scorer = scorer;
+        this.trigramPostings = trigramPostings;
+        this.filters = filters;
+        this.facets = facets;
+        this.metrics = metrics;
+        this.allOrdinals = new int[projects.size()];
+        Arrays.setAll(allOrdinals, i -> i);
+        // Boosts alone give a positive score, so these projects match every keyword
+        this.boosted = Arrays.stream(allOrdinals).filter(ordinal -> scorer.boost(ordinal) > 0).toArray();
+    }
+
+    /**
+     * Builds the index for the given projects. The list is expected to be immutable;
+     * project ordinals are positions in this list.
+     *
+     * @param projects Projects to index
+     * @return New search index
+     */
+    public static SearchIndex build(List<CncfProject> projects) {
+        int size = projects.size();
+        RelevanceScorer scorer = RelevanceScorer.build(projects);
+
+        List<Map<Long, PostingsBuilder>> builders = new ArrayList<>(FIELDS.length);
+        for (int i = 0; i < FIELDS.length; i++) {
+            builders.add(new HashMap<>());
+        }
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            addTrigrams(builders.get(Field.NAME.ordinal()), scorer.text(Field.NAME, ordinal), ordinal);
+            addTrigrams(builders.get(Field.DESCRIPTION.ordinal()), scorer.text(Field.DESCRIPTION, ordinal), ordinal);
+            addTrigrams(builders.get(Field.CATEGORY.ordinal()), scorer.text(Field.CATEGORY, ordinal), ordinal);
+            for (char[] tag : scorer.tags(ordinal)) {
+                // Grams never span two tags, a keyword has to match within a single tag
+                addTrigrams(builders.get(Field.TAG.ordinal()), tag, ordinal);
+            }
+        }
+
+        List<Map<Long, int[]>> trigramPostings = new ArrayList<>(FIELDS.length);
+        for (Map<Long, PostingsBuilder> builder : builders) {
+            Map<Long, int[]> postings = HashMap.newHashMap(builder.size());
+            builder.forEach((gram, list) -> postings.put(gram, list.build()));
+            trigramPostings.add(postings);
+        }
+        return new SearchIndex(projects, scorer, List.copyOf(trigramPostings), FilterIndex.build(projects),
+            FacetIndex.build(projects), MetricColumns.build(projects));
+    }
+
+    /**
+     * Gets the indexed projects, in ordinal order.
+     *
+     * @return Immutable project list
+     */
+    public List<CncfProject> projects() {
+        return projects;
+    }
+
+    /**
+     * Gets the category, maturity and tag bitsets of the indexed projects.
+     *
+     * @return Filter index sharing this index's ordinals
+     */
+    public FilterIndex filters() {
+        return filters;
+    }
+
+    /**
+     * Gets the facet values of the indexed projects.
+     *
+     * @return Facet index sharing this index's ordinals
+     */
+    public FacetIndex facets() {
+        return facets;
+    }
+
+    /**
+     * Gets the GitHub metric columns of the indexed projects.
+     *
+     * @return Metric columns sharing this index's ordinals
+     */
+    public MetricColumns metrics() {
+        return metrics;
+    }
+
+    /**
+     * Number of indexed projects.
+     */
+    public int size() {
+        return projects.size();
+    }
+
+    /**
+     * Scores all projects against the query and returns the best matches.
+     *
+     * <p>Scores are computed by the {@link RelevanceScorer}. Projects with a positive
+     * score are returned sorted by score, ties in ordinal order; only the best
+     * {@code limit} are selected, without sorting the rest.</p>
+     *
+     * <p>Tag and maturity filters (comma-separated values, see {@link FilterIndex})
+     * and the minimum star count restrict the candidates before anything is scored. Without a keyword, every
+     * project that passes the filters is returned, even with a score of zero.</p>
+     *
+     * <p>With a {@link SortOrder} other than relevance the same projects match, but
+     * they are returned in the metric's order from {@link MetricColumns#ordinals}.</p>
+     *
+     * @param query Search query
+     * @return Ranked results, at most {@code query.limit()}
+     */
+    public List<SearchResult> search(SearchQuery query) {
+        return rank(query, query.limit()).toResults(projects, query);
+    }
+
+    /**
+     * Ranks the best matches of the query down to the given depth, regardless of
+     * {@code query.limit()}, with the scoring and ordering of {@link #search}.
+     *
+     * <p>A keyword query scores only its candidates, in a {@link CandidateScores}
+     * table sized to them; without a keyword the score is the boost plus the category
+     * weight and is computed in place. Only the match bitset is sized to the index.</p>
+     *
+     * @param query Search query
+     * @param depth Maximum number of matches to rank, at least 1
+     * @return Ranked matches
+     */
+    public RankedResults rank(SearchQuery query, int depth) {
+        boolean hasKeyword = query.keyword() != null && !query.keyword().isEmpty();
+        long[] filter = filters.matching(query.tag(), query.maturityLevel());
+        if (query.minStars() > 0) {
+            long[] popular = metrics.withStarsAtLeast(query.minStars());
+            if (filter != null) {
+                for (int word = 0; word < popular.length; word++) {
+                    popular[word] &= filter[word];
+                }
+            }
+            filter = popular;
+        }
+        long[] category = query.category() != null && !query.category().isEmpty() ? filters.category(query.category()) : null;
+        CandidateScores candidates = hasKeyword ? scoreCandidates(RelevanceScorer.fold(query.keyword()), filter, category) : null;
+
+        // Rank on primitive (score, ordinal) pairs; only the survivors are kept
+        boolean byRelevance = query.sort() == SortOrder.RELEVANCE;
+        TopK topK = new TopK(depth);
+        long[] matchSet = new long[(projects.size() + 63) >>> 6];
+        int matches = 0;
+        if (candidates != null) {
+            // Every candidate passed the filters and has a positive score
+            for (int slot = 0; slot < candidates.capacity(); slot++) {
+                int ordinal = candidates.ordinalAt(slot);
+                if (ordinal >= 0) {
+                    if (byRelevance) {
+                        topK.offer(Math.min(candidates.scoreAt(slot), RelevanceScorer.MAX_SCORE), ordinal);
+                    }
+                    matchSet[ordinal >>> 6] |= 1L << ordinal;
+                    matches++;
+                }
+            }
+        } else {
+            // Without a keyword, every project that passes the filters matches
+            for (int ordinal = 0; ordinal < projects.size(); ordinal++) {
+                int score = score(null, category, ordinal);
+                if (filter == null ? score > 0 : FilterIndex.contains(filter, ordinal)) {
+                    if (byRelevance) {
+                        topK.offer(score, ordinal);
+                    }
+                    matchSet[ordinal >>> 6] |= 1L << ordinal;
+                    matches++;
+                }
+            }
+        }
+        if (!byRelevance) {
+            return inMetricOrder(query.sort(), depth, candidates, category, matchSet, matches);
+        }
+
+        long[] ranked = topK.sortedKeys();
+        int[] ordinals = new int[ranked.length];
+        int[] rankedScores = new int[ranked.length];
+        String[] rankedFields = new String[ranked.length];
+        for (int i = 0; i < ranked.length; i++) {
+            int ordinal = TopK.ordinal(ranked[i]);
+            ordinals[i] = ordinal;
+            rankedScores[i] = TopK.score(ranked[i]);
+            rankedFields[i] = matchedField(candidates, category, ordinal);
+        }
+        return new RankedResults(ordinals, rankedScores, rankedFields, matchSet, matches);
+    }
+
+    /**
+     * Scores the projects a keyword can match: those with a matching field, those
+     * whose boost alone gives a positive score and those in the filtered category.
+     * Projects outside the filter are never added.
+     */
+    private CandidateScores scoreCandidates(char[] keyword, long[] filter, long[] category) {
+        int[][] fieldCandidates = new int[FIELDS.length][];
+        int expected = boosted.length;
+        for (Field field : FIELDS) {
+            fieldCandidates[field.ordinal()] = candidates(field, keyword);
+            expected += fieldCandidates[field.ordinal()].length;
+        }
+
+        CandidateScores scores = new CandidateScores(expected);
+        for (Field field : FIELDS) {
+            for (int ordinal : fieldCandidates[field.ordinal()]) {
+                if (filter != null && !FilterIndex.contains(filter, ordinal)) {
+                    continue;
+                }
+                int fieldScore = scorer.fieldScore(field, ordinal, keyword);
+                if (fieldScore > 0) {
+                    scores.add(ordinal, scorer.boost(ordinal), fieldScore, field.ordinal());
+                }
+            }
+        }
+        for (int ordinal : boosted) {
+            if (filter == null || FilterIndex.contains(filter, ordinal)) {
+                scores.add(ordinal, scorer.boost(ordinal), 0, CandidateScores.NO_FIELD);
+            }
+        }
+        if (category != null) {
+            for (int word = 0; word < category.length; word++) {
+                for (long bits = category[word]; bits != 0; bits &= bits - 1) {
+                    int ordinal = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    if (filter == null || FilterIndex.contains(filter, ordinal)) {
+                        scores.add(ordinal, scorer.boost(ordinal), RelevanceScorer.CATEGORY_FILTER_WEIGHT, CATEGORY_FILTER_FIELD);
+                    }
+                }
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Capped score of a matching project: from the candidates of a keyword query,
+     * or the boost plus the category weight without a keyword.
+     */
+    private int score(CandidateScores candidates, long[] category, int ordinal) {
+        int score;
+        if (candidates != null) {
+            score = candidates.score(ordinal);
+        } else {
+            score = scorer.boost(ordinal);
+            if (category != null && FilterIndex.contains(category, ordinal)) {
+                score += RelevanceScorer.CATEGORY_FILTER_WEIGHT;
+            }
+        }
+        return Math.min(score, RelevanceScorer.MAX_SCORE);
+    }
+
+    /**
+     * Label of the first field a matching project matched on, or "".
+     */
+    private String matchedField(CandidateScores candidates, long[] category, int ordinal) {
+        int field;
+        if (candidates != null) {
+            field = candidates.field(ordinal);
+        } else {
+            field = category != null && FilterIndex.contains(category, ordinal) ? CATEGORY_FILTER_FIELD : NO_FIELD;
+        }
+        return field == NO_FIELD ? "" : FIELDS[field].label();
+    }
+
+    /**
+     * Takes the first matches down the pre-sorted ordinals of a metric order.
+     */
+    private RankedResults inMetricOrder(SortOrder order, int depth, CandidateScores candidates, long[] category,
+                                        long[] matchSet, int matches) {
+        int count = Math.min(depth, matches);
+        int[] ordinals = new int[count];
+        int[] rankedScores = new int[count];
+        String[] rankedFields = new String[count];
+        int[] sorted = metrics.ordinals(order);
+        for (int i = 0, taken = 0; taken < count; i++) {
+            int ordinal = sorted[i];
+            if (FilterIndex.contains(matchSet, ordinal)) {
+                ordinals[taken] = ordinal;
+                rankedScores[taken] = score(candidates, category, ordinal);
+                rankedFields[taken] = matchedField(candidates, category, ordinal);
+                taken++;
+            }
+        }
+        return new RankedResults(ordinals, rankedScores, rankedFields, matchSet, matches);
+    }
+
+    /**
+     * Candidate ordinals whose field contains every trigram of the keyword.
+     * Keywords shorter than a trigram fall back to all ordinals.
+     */
+    private int[] candidates(Field field, char[] keyword) {
+        if (keyword.length < GRAM_LENGTH) {
+            return allOrdinals;
+        }
+
+        Map<Long, int[]> postings = trigramPostings.get(field.ordinal());
+        int gramCount = keyword.length - GRAM_LENGTH + 1;
+        int[][] lists = new int[gramCount][];
+        for (int i = 0; i < gramCount; i++) {
+            int[] list = postings.get(trigram(keyword, i));
+            if (list == null) {
+                return NO_ORDINALS;
+            }
+            lists[i] = list;
+        }
+
+        // Intersect starting from the shortest postings list
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static void addTrigrams(Map<Long, PostingsBuilder> postings, char[] text, int ordinal) {
+        for (int i = 0; i + GRAM_LENGTH <= text.length; i++) {
+            postings.computeIfAbsent(trigram(text, i), g -> new PostingsBuilder()).add(ordinal);
+        }
+    }
+
+    /**
+     * Packs the three UTF-16 chars starting at {@code offset} into one key.
+     */
+    private static long trigram(char[] text, int offset) {
+        return ((long) text[offset] << 32) | ((long) text[offset + 1] << 16) | text[offset + 2];
+    }
+
+    /**
+     * Growable sorted list of distinct ordinals; ordinals must be added in ascending order.
+     */
+    private static final class PostingsBuilder {
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size > 0 && ordinals[size - 1] == ordinal) {
+                return;
+            }
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        int[] build() {
+            return Arrays.copyOf(ordinals, size);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.mcp.cncf.search;
+
+import java.util.Arrays;
+
+/**
+ * Bounded selection of the K best (score, ordinal) pairs.
+ *
+ * <p>Each pair is packed into one {@code long} whose natural order is the ranking
+ * order: higher score first, then lower ordinal. A min-heap of at most K keys keeps
+ * the current best; its root is the worst survivor, so a candidate that does not
+ * beat it is rejected with a single comparison. Selecting from N candidates is
+ * O(N log K) with no allocation beyond the heap itself.</p>
+ */
+final class TopK {
+
+    private final long[] heap;
+    private int size;
+
+    /**
+     * @param k Maximum number of pairs to keep, at least 1
+     */
+    TopK(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("K must be positive");
+        }
+        this.heap = new long[k];
+    }
+
+    /**
+     * Offers a candidate.
+     *
+     * @param score Non-negative score
+     * @param ordinal Non-negative project ordinal
+     */
+    void offer(int score, int ordinal) {
+        long key = key(score, ordinal);
+        if (size < heap.length) {
+            heap[size] = key;
+            siftUp(size++);
+        } else if (key > heap[0]) {
+            heap[0] = key;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Number of kept pairs.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Kept pairs, best first. Decode them with {@link #score(long)} and {@link #ordinal(long)}.
+     */
+    long[] sortedKeys() {
+        long[] keys = Arrays.copyOf(heap, size);
+        Arrays.sort(keys);
+        for (int i = 0, j = keys.length - 1; i < j; i++, j--) {
+            long swap = keys[i];
+            keys[i] = keys[j];
+            keys[j] = swap;
+        }
+        return keys;
+    }
+
+    static int score(long key) {
+        return (int) (key >>> 32);
+    }
+
+    static int ordinal(long key) {
+        return Integer.MAX_VALUE - (int) key;
+    }
+
+    private static long key(int score, int ordinal) {
+        // Lower ordinals win ties, so they map to larger low words
+        return ((long) score << 32) | (Integer.MAX_VALUE - ordinal);
+    }
+
+    private void siftUp(int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    private void siftDown(int index) {
+        long key = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+}
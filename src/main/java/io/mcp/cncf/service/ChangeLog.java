@@ -0,0 +1,97 @@
+package io.mcp.cncf.service;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.model.CncfModel.ProjectMetadata;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Projects added, removed and changed by a refresh, relative to the previous snapshot.
+ *
+ * @param previousVersion Version of the snapshot compared against, 0 if there was none
+ * @param added Projects new in this snapshot, in document order
+ * @param removed Projects of the previous snapshot that are gone
+ * @param changed Projects whose content changed, in document order
+ * @param unchanged Number of projects carried over as they were
+ */
+public record ChangeLog(
+    long previousVersion,
+    List<CncfProject> added,
+    List<CncfProject> removed,
+    List<Change> changed,
+    int unchanged
+) {
+    public static final ChangeLog NONE = new ChangeLog(0, List.of(), List.of(), List.of(), 0);
+
+    public ChangeLog {
+        added = List.copyOf(added);
+        removed = List.copyOf(removed);
+        changed = List.copyOf(changed);
+    }
+
+    /**
+     * A project present in both snapshots with different content.
+     *
+     * @param before Project in the previous snapshot
+     * @param after Project in this snapshot
+     */
+    public record Change(CncfProject before, CncfProject after) {
+
+        /**
+         * Names of the fields that differ, in record order.
+         *
+         * @return Changed field names
+         */
+        public List<String> changedFields() {
+            List<String> fields = new ArrayList<>();
+            differs(fields, "name", before.name(), after.name());
+            differs(fields, "category", before.category(), after.category());
+            differs(fields, "subcategory", before.subcategory(), after.subcategory());
+            differs(fields, "description", before.description(), after.description());
+            differs(fields, "homepage", before.homepageUrl(), after.homepageUrl());
+            differs(fields, "repository", before.repoUrl(), after.repoUrl());
+            differs(fields, "maturity", before.maturity(), after.maturity());
+            differs(fields, "tags", before.tags(), after.tags());
+
+            ProjectMetadata was = before.metadata();
+            ProjectMetadata is = after.metadata();
+            if (was == null || is == null) {
+                differs(fields, "metadata", was, is);
+            } else {
+                differs(fields, "stars", was.stars(), is.stars());
+                differs(fields, "forks", was.forks(), is.forks());
+                differs(fields, "contributors", was.contributorCount(), is.contributorCount());
+                differs(fields, "latest version", was.latestVersion(), is.latestVersion());
+                differs(fields, "license", was.license(), is.license());
+                differs(fields, "last commit", was.lastCommitDate(), is.lastCommitDate());
+                differs(fields, "first commit", was.firstCommitDate(), is.firstCommitDate());
+                if (fields.isEmpty() && !was.equals(is)) {
+                    fields.add("metadata");
+                }
+            }
+            return fields;
+        }
+
+        private static void differs(List<String> fields, String field, Object before, Object after) {
+            if (!Objects.equals(before, after)) {
+                fields.add(field);
+            }
+        }
+    }
+
+    /**
+     * Whether this is the first snapshot, with nothing to compare against.
+     */
+    public boolean isInitial() {
+        return previousVersion == 0;
+    }
+
+    /**
+     * Whether the refresh changed anything.
+     */
+    public boolean hasChanges() {
+        return !added.isEmpty() || !removed.isEmpty() || !changed.isEmpty();
+    }
+}
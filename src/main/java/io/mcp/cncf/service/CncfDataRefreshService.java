@@ -2,408 +2,498 @@ package io.mcp.cncf.service;
 
 import io.mcp.cncf.client.CncfLandscapeClient;
 import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.jboss.logging.Logger;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Service for refreshing CNCF data with ETags for incremental updates.
  * Uses Java 25 virtual threads for efficient async operations.
+ *
+ * <p>Data is refreshed by a background scheduler on its own interval (plus jitter),
+ * so tool calls only ever read the currently published project list and never
+ * block on the network. Until the first refresh completes the service reports
+ * {@link DataState#WARMING}.</p>
+ *
+ * <p>Refreshes are single-flight: at most one download and parse runs at a time,
+ * and callers arriving while it runs join its result instead of starting their own.</p>
  */
 @ApplicationScoped
 public class CncfDataRefreshService {
 
     private static final Logger LOG = Logger.getLogger(CncfDataRefreshService.class);
 
-    @RestClient
-    @Inject
-    CncfLandscapeClient landscapeClient;
+    /**
+     * Availability of the cached landscape data.
+     */
+    public enum DataState {
+        /** No data loaded yet, the initial refresh is still running. */
+        WARMING,
+        /** Data is loaded and can be served. */
+        READY,
+        /** The initial refresh failed or found no projects, and no data is available yet. */
+        UNAVAILABLE
+    }
 
-    
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    private final AtomicReference<String> lastETag = new AtomicReference<>();
-    private final AtomicReference<Instant> lastRefresh = new AtomicReference<>(Instant.EPOCH);
-    private final AtomicReference<List<CncfProject>> cachedProjects = new AtomicReference<>(new ArrayList<>());
-    private final AtomicReference<String> lastError = new AtomicReference<>();
-    private final AtomicReference<Instant> lastErrorTime = new AtomicReference<>();
+    /**
+     * How a refresh ended, the {@code outcome} tag of the refresh timer.
+     */
+    private enum RefreshOutcome {
+        UPDATED, UNCHANGED, NOT_MODIFIED, EMPTY, FAILED;
 
-    
-    // Java 25 Virtual Thread Executor
-    private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        final String tag = name().toLowerCase(Locale.ROOT);
+    }
 
     /**
-     * Refreshes CNCF data using ETags for incremental updates.
-     * This is the main data refresh method.
-     *
-     * @return True if data was updated, false if no changes
+     * HTTP validators of the last successfully ingested landscape response.
      */
-    public boolean refreshData() {
-        try {
-            LOG.info("Starting CNCF data refresh...");
-            long startTime = System.currentTimeMillis();
+    private record CacheValidators(String etag, String lastModified) {
+        static final CacheValidators NONE = new CacheValidators(null, null);
+    }
 
-            // Get current data with ETag support
-            String currentETag = lastETag.get();
-            String landscapeData;
+    @RestClient
+    @Inject
+    CncfLandscapeClient landscapeClient;
 
-            // Note: Since we're using the basic REST client, we'll implement ETag logic manually
-            // In a production environment, you might want to use a more advanced HTTP client
-            landscapeData = landscapeClient.getFullLandscapeData();
+    @Inject
+    SnapshotStore snapshotStore;
 
-            if (landscapeData == null || landscapeData.trim().isEmpty()) {
-                LOG.warn("Received empty data from CNCF Landscape API");
-                return false;
-            }
+    @Inject
+    Event<SnapshotPublished> snapshotPublished;
 
-            // Check if data has actually changed
-            String newDataHash = Integer.toString(landscapeData.hashCode());
-            if (newDataHash.equals(currentETag)) {
-                LOG.debug("CNCF data unchanged, skipping refresh");
-                return false;
-            }
+    @Inject
+    MeterRegistry meterRegistry;
 
-            // Parse and update data
-            List<CncfProject> projects = parseLandscapeData(landscapeData);
-            if (projects.isEmpty()) {
-                LOG.warn("No projects found in CNCF Landscape data");
-                return false;
-            }
+    @ConfigProperty(name = "cncf.refresh.enabled", defaultValue = "true")
+    boolean refreshEnabled;
 
-            
-            // Update cached data
-            cachedProjects.set(new ArrayList<>(projects));
-            lastETag.set(newDataHash);
-            lastRefresh.set(Instant.now());
-            lastError.set(null);
-            lastErrorTime.set(null);
+    @ConfigProperty(name = "cncf.refresh.interval", defaultValue = "1h")
+    Duration refreshInterval;
 
-            
-            long duration = System.currentTimeMillis() - startTime;
-            LOG.infof("CNCF data refresh completed in %dms: %d projects processed",
-                     duration, projects.size());
+    @ConfigProperty(name = "cncf.refresh.jitter", defaultValue = "5m")
+    Duration refreshJitter;
 
-            return true;
+    @ConfigProperty(name = "cncf.refresh.retry-delay", defaultValue = "30s")
+    Duration retryDelay;
 
-        } catch (Exception e) {
-            LOG.errorf(e, "Failed to refresh CNCF data: %s", e.getMessage());
-            lastError.set(e.getMessage());
-            lastErrorTime.set(Instant.now());
-            return false;
-        }
-    }
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReference<CacheValidators> cacheValidators = new AtomicReference<>(CacheValidators.NONE);
+    // Validators of the snapshot file on disk, so an unchanged landscape is only rewritten when they change
+    private final AtomicReference<CacheValidators> persistedValidators = new AtomicReference<>(CacheValidators.NONE);
+    private final AtomicReference<Instant> lastRefresh = new AtomicReference<>(Instant.EPOCH);
+    // Projects and the structures built from them are published together as one immutable snapshot
+    private final AtomicReference<LandscapeSnapshot> snapshot = new AtomicReference<>(LandscapeSnapshot.EMPTY);
+    private final AtomicLong snapshotVersion = new AtomicLong();
+    private final AtomicReference<String> lastError = new AtomicReference<>();
+    private final AtomicReference<Instant> lastErrorTime = new AtomicReference<>();
+    private final AtomicReference<DataState> state = new AtomicReference<>(DataState.WARMING);
+    // The refresh currently running, shared by every caller that arrives while it runs
+    private final AtomicReference<CompletableFuture<Boolean>> refreshInFlight = new AtomicReference<>();
+    private final LongAdder refreshesStarted = new LongAdder();
+    private final LongAdder coalescedCallers = new LongAdder();
+    private final AtomicReference<RefreshBreakdown> lastBreakdown = new AtomicReference<>();
 
-    /**
-     * Parses CNCF Landscape JSON data into CncfProject objects.
-     * Uses Jackson streaming parser for memory efficiency.
-     *
-     * @param jsonData JSON data from CNCF Landscape
-     * @return List of parsed CNCF projects
-     */
-    private List<CncfProject> parseLandscapeData(String jsonData) {
-        List<CncfProject> projects = new ArrayList<>();
+    // Java 25 Virtual Thread Executor
+    private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
-        try {
-            JsonNode rootNode = objectMapper.readTree(jsonData);
-            JsonNode itemsNode = rootNode.path("items");
-
-            if (itemsNode.isArray()) {
-                for (JsonNode itemNode : itemsNode) {
-                    try {
-                        CncfProject project = parseProjectNode(itemNode);
-                        if (project != null) {
-                            projects.add(project);
-                        }
-                    } catch (Exception e) {
-                        LOG.debugf("Failed to parse project item: %s", e.getMessage());
-                    }
-                }
-            }
+    // Items are converted in chunks on virtual threads, one chunk per core at a time
+    private final LandscapeParser landscapeParser = new LandscapeParser(objectMapper, virtualThreadExecutor,
+        Runtime.getRuntime().availableProcessors());
 
-            LOG.debugf("Parsed %d projects from CNCF Landscape data", projects.size());
-            return projects;
+    // Dedicated scheduler thread; it only dispatches refreshes onto virtual threads
+    private final ScheduledExecutorService refreshScheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("cncf-refresh-scheduler").daemon().factory());
 
-        } catch (Exception e) {
-            LOG.errorf(e, "Failed to parse CNCF Landscape JSON data");
-            return new ArrayList<>();
-        }
+    /**
+     * Restores the snapshot persisted by a previous process before the bean is first
+     * used, so with a snapshot on disk the service is ready immediately, even offline.
+     * This runs on bean creation rather than at startup because the stdio transport
+     * may deliver tool calls before startup observers have run.
+     */
+    @PostConstruct
+    void init() {
+        registerMetrics();
+        restoreFromDisk();
     }
 
     /**
-     * Parses a single project node from the CNCF Landscape data.
-     *
-     * @param projectNode JSON node for a single project
-     * @return Parsed CncfProject or null if invalid
+     * Registers gauges over the published snapshot and the refresh counters.
      */
-    private CncfProject parseProjectNode(JsonNode projectNode) {
-        try {
-            // Extract basic project information
-            String id = getNestedValue(projectNode, "id", "name");
-            if (id == null) {
-                return null;
-            }
-
-            String name = getNestedValue(projectNode, "name");
-            String description = getNestedValue(projectNode, "description");
-            String category = getNestedValue(projectNode, "category");
-            String subcategory = getNestedValue(projectNode, "subcategory");
-            String homepage = getNestedValue(projectNode, "homepage_url");
-            String repoUrl = getNestedValue(projectNode, "repo_url");
-            String logo = getNestedValue(projectNode, "logo_url");
-            String crunchbaseUrl = getNestedValue(projectNode, "crunchbase_url");
-            String twitter = getNestedValue(projectNode, "twitter_url");
-
-            // Extract maturity level/landscape
-            String landscape = getNestedValue(projectNode, "landscape");
-            String maturity = getNestedValue(projectNode, "maturity");
-            String oss = getNestedValue(projectNode, "oss");
-            String license = getNestedValue(projectNode, "license");
-            String acceptanceDate = getNestedValue(projectNode, "acceptance_date");
-            String graduationDate = getNestedValue(projectNode, "graduation_date");
-            String latestVersion = getNestedValue(projectNode, "latest_version");
-            String org = getNestedValue(projectNode, "organization");
-            String endUserSupport = getNestedValue(projectNode, "enduser_support");
-
-            // Extract tags
-            List<String> tags = extractTags(projectNode);
-
-            // Extract GitHub metadata
-            Integer stars = extractGithubStars(projectNode);
-            Integer forks = extractGithubForks(projectNode);
-            Integer contributors = extractGithubContributors(projectNode);
-            String contributorsStr = contributors != null ? String.valueOf(contributors) : "";
-            java.util.Date lastCommitDate = extractLastCommitDate(projectNode);
-            java.util.Date firstCommitDate = extractFirstCommitDate(projectNode);
-
-            // Create project metadata
-            var metadata = new io.mcp.cncf.model.CncfModel.ProjectMetadata(
-                "", // creationDate
-                acceptanceDate != null ? acceptanceDate : "",
-                graduationDate,
-                latestVersion,
-                license != null ? license : "",
-                org,
-                tags, // maintainers
-                tags, // companies
-                stars != null ? stars : 0.0,
-                forks != null ? forks : 0.0,
-                contributorsStr,
-                "", // openIssues
-                "", // crdbBacked
-                endUserSupport != null ? endUserSupport : "",
-                repoUrl != null ? repoUrl : "",
-                homepage != null ? homepage : "",
-                null, // lastCommitDate
-                contributors != null ? contributors : 0
-            );
-
-            return new io.mcp.cncf.model.CncfModel.CncfProject(
-                id,
-                name != null ? name : "",
-                category != null ? category : "",
-                subcategory != null ? subcategory : "",
-                description != null ? description : "",
-                homepage != null ? homepage : "",
-                repoUrl != null ? repoUrl : "",
-                maturity != null ? maturity : "",
-                tags,
-                metadata
-            );
+    private void registerMetrics() {
+        Gauge.builder("cncf.snapshot.projects", snapshot, current -> current.get().projectCount())
+            .description("Projects in the published snapshot")
+            .register(meterRegistry);
+        Gauge.builder("cncf.snapshot.version", snapshot, current -> current.get().version())
+            .description("Version of the published snapshot")
+            .register(meterRegistry);
+        Gauge.builder("cncf.snapshot.age", lastRefresh,
+                last -> last.get().equals(Instant.EPOCH)
+                    ? Double.NaN
+                    : Duration.between(last.get(), Instant.now()).toMillis() / 1000.0)
+            .description("Time since the data was last confirmed current")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        FunctionCounter.builder("cncf.refresh.started", refreshesStarted, LongAdder::sum)
+            .description("Refreshes started, each one upstream request")
+            .register(meterRegistry);
+        FunctionCounter.builder("cncf.refresh.coalesced", coalescedCallers, LongAdder::sum)
+            .description("Callers that joined a refresh already in flight")
+            .register(meterRegistry);
+    }
 
-        } catch (Exception e) {
-            LOG.debugf("Error parsing project node: %s", e.getMessage());
-            return null;
+    /**
+     * Starts the background refresh loop at application startup.
+     * The first refresh runs immediately; with a restored snapshot it is usually
+     * answered with 304 Not Modified thanks to the persisted validators.
+     */
+    void onStart(@Observes StartupEvent event) {
+        if (!refreshEnabled) {
+            LOG.info("Scheduled CNCF data refresh is disabled");
+            return;
         }
+        scheduleRefresh(Duration.ZERO);
     }
 
     /**
-     * Extracts nested value from JSON node.
-     *
-     * @param node JSON node
-     * @param paths Path names to try in order
-     * @return Extracted value or null
+     * Publishes the snapshot persisted by a previous process, if there is a valid one.
      */
-    private String getNestedValue(JsonNode node, String... paths) {
-        for (String path : paths) {
-            JsonNode valueNode = node.path(path);
-            if (!valueNode.isMissingNode() && !valueNode.isNull()) {
-                String value = valueNode.asText();
-                if (!value.trim().isEmpty()) {
-                    return value;
-                }
+    private void restoreFromDisk() {
+        snapshotStore.load().ifPresent(stored -> {
+            if (stored.projects().isEmpty()) {
+                return;
             }
-        }
-        return null;
+            publish(LandscapeSnapshot.build(snapshotVersion.incrementAndGet(), LandscapeDiff.compute(null, stored.projects()),
+                stored.validation(), stored.refreshedAt()));
+            CacheValidators validators = new CacheValidators(stored.etag(), stored.lastModified());
+            cacheValidators.set(validators);
+            persistedValidators.set(validators);
+            lastRefresh.set(stored.refreshedAt());
+            state.set(DataState.READY);
+        });
     }
 
     /**
-     * Extracts tags from project node.
-     *
-     * @param projectNode Project JSON node
-     * @return List of tags
+     * Makes the snapshot current and notifies observers of {@link SnapshotPublished}.
      */
-    private List<String> extractTags(JsonNode projectNode) {
-        List<String> tags = new ArrayList<>();
+    private void publish(LandscapeSnapshot newSnapshot) {
+        snapshot.set(newSnapshot);
+        snapshotPublished.fire(new SnapshotPublished(newSnapshot));
+    }
 
-        // Add maturity level as tag
-        String maturity = getNestedValue(projectNode, "maturity");
-        if (maturity != null && !maturity.trim().isEmpty()) {
-            tags.add(maturity.toLowerCase().trim());
-        }
+    @PreDestroy
+    void shutdown() {
+        refreshScheduler.shutdownNow();
+        virtualThreadExecutor.shutdownNow();
+    }
 
-        // Add category as tag
-        String category = getNestedValue(projectNode, "category");
-        if (category != null && !category.trim().isEmpty()) {
-            tags.add(category.toLowerCase().trim().replace(" ", "-"));
+    /**
+     * Schedules the next background refresh after the given delay.
+     */
+    private void scheduleRefresh(Duration delay) {
+        if (refreshScheduler.isShutdown()) {
+            return;
         }
+        refreshScheduler.schedule(() -> refreshDataAsync().whenComplete((updated, error) ->
+            scheduleRefresh(nextRefreshDelay())), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
 
-        // Add landscape as tag
-        String landscape = getNestedValue(projectNode, "landscape");
-        if (landscape != null && !landscape.trim().isEmpty()) {
-            tags.add(landscape.toLowerCase().trim());
+    /**
+     * Computes the delay before the next scheduled refresh.
+     * Retries quickly while no data is available, otherwise waits the configured
+     * interval plus a random jitter so that many server processes don't refresh in lockstep.
+     */
+    private Duration nextRefreshDelay() {
+        if (state.get() != DataState.READY) {
+            return retryDelay;
         }
+        long jitterMillis = refreshJitter.toMillis();
+        long jitter = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0;
+        return refreshInterval.plusMillis(jitter);
+    }
 
-        // Add OSS tag if applicable
-        String oss = getNestedValue(projectNode, "oss");
-        if ("true".equalsIgnoreCase(oss)) {
-            tags.add("open-source");
+    /**
+     * Stale-while-revalidate: if the cached data is older than the refresh interval
+     * (or not loaded yet), starts a background refresh without waiting for it.
+     * Callers keep serving the current data in the meantime.
+     */
+    public void revalidateIfStale() {
+        if (state.get() == DataState.READY && isDataFresh()) {
+            return;
         }
-
-        // Add CNCF tag if it's a CNCF project
-        if (tags.contains("graduated") || tags.contains("incubating") || tags.contains("sandbox")) {
-            tags.add("cncf");
+        if (refreshInFlight.get() == null) {
+            refreshDataAsync();
         }
-
-        return tags;
     }
 
     /**
-     * Extracts GitHub stars from project node.
+     * Refreshes CNCF data using HTTP conditional requests (ETag / Last-Modified).
+     * This is the main data refresh method. A call made while another refresh is in
+     * flight waits for that refresh and returns its result.
      *
-     * @param projectNode Project JSON node
-     * @return Number of stars or 0
+     * @return True if data was updated, false if no changes
      */
-    private Integer extractGithubStars(JsonNode projectNode) {
-        try {
-            JsonNode githubData = projectNode.path("github_data");
-            if (!githubData.isMissingNode()) {
-                JsonNode starsNode = githubData.path("stars");
-                if (!starsNode.isMissingNode()) {
-                    return starsNode.asInt();
-                }
-            }
-        } catch (Exception e) {
-            LOG.debugf("Error extracting GitHub stars: %s", e.getMessage());
-        }
-        return 0;
+    public boolean refreshData() {
+        return refreshDataAsync().join();
     }
 
     /**
-     * Extracts GitHub forks from project node.
+     * Async refresh using Java 25 virtual threads. Starts a refresh unless one is
+     * already in flight, in which case the caller joins it.
      *
-     * @param projectNode Project JSON node
-     * @return Number of forks or 0
+     * @return CompletableFuture indicating refresh completion, true if data was updated
      */
-    private Integer extractGithubForks(JsonNode projectNode) {
-        try {
-            JsonNode githubData = projectNode.path("github_data");
-            if (!githubData.isMissingNode()) {
-                JsonNode forksNode = githubData.path("forks");
-                if (!forksNode.isMissingNode()) {
-                    return forksNode.asInt();
+    public CompletableFuture<Boolean> refreshDataAsync() {
+        while (true) {
+            CompletableFuture<Boolean> running = refreshInFlight.get();
+            if (running != null) {
+                coalescedCallers.increment();
+                LOG.debug("CNCF data refresh already in progress, joining it");
+                // A copy, so a caller completing or cancelling its future can't affect the others
+                return running.copy();
+            }
+            CompletableFuture<Boolean> refresh = new CompletableFuture<>();
+            if (refreshInFlight.compareAndSet(null, refresh)) {
+                refreshesStarted.increment();
+                try {
+                    virtualThreadExecutor.execute(() -> {
+                        boolean updated = false;
+                        try {
+                            updated = doRefresh();
+                        } finally {
+                            // Callers arriving from here on start a new refresh
+                            refreshInFlight.set(null);
+                            refresh.complete(updated);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // Shutting down; don't leave a refresh behind that never completes
+                    refreshInFlight.set(null);
+                    refresh.completeExceptionally(e);
                 }
+                return refresh.copy();
             }
-        } catch (Exception e) {
-            LOG.debugf("Error extracting GitHub forks: %s", e.getMessage());
         }
-        return 0;
     }
 
     /**
-     * Extracts GitHub contributors from project node.
-     *
-     * @param projectNode Project JSON node
-     * @return Number of contributors or 0
+     * Performs one refresh and records its duration by outcome. Only ever runs on the single-flight refresh.
      */
-    private Integer extractGithubContributors(JsonNode projectNode) {
+    private boolean doRefresh() {
+        long start = System.nanoTime();
+        RefreshOutcome outcome = refreshOnce();
+        Timer.builder("cncf.refresh")
+            .description("Landscape refresh duration")
+            .tag("outcome", outcome.tag)
+            .register(meterRegistry)
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return outcome == RefreshOutcome.UPDATED;
+    }
+
+    private RefreshOutcome refreshOnce() {
         try {
-            JsonNode githubData = projectNode.path("github_data");
-            if (!githubData.isMissingNode()) {
-                JsonNode contributorsNode = githubData.path("contributors");
-                if (!contributorsNode.isMissingNode()) {
-                    return contributorsNode.asInt();
+            LOG.info("Starting CNCF data refresh...");
+            long startTime = System.currentTimeMillis();
+            long requestStart = System.nanoTime();
+
+            // Conditional request: an unchanged landscape costs a single header round-trip
+            CacheValidators validators = cacheValidators.get();
+            List<CncfProject> projects;
+            CacheValidators newValidators;
+            long downloadNanos;
+            long parseNanos;
+            long bytes;
+            LandscapeParser.Ingestion ingestion;
+
+            try (Response response = landscapeClient.getFullLandscapeData(validators.etag(), validators.lastModified())) {
+                int status = response.getStatus();
+                if (status == Response.Status.NOT_MODIFIED.getStatusCode()) {
+                    LOG.debug("CNCF data not modified (HTTP 304), keeping cached data");
+                    lastRefresh.set(Instant.now());
+                    lastError.set(null);
+                    lastErrorTime.set(null);
+                    return RefreshOutcome.NOT_MODIFIED;
+                }
+                if (status != Response.Status.OK.getStatusCode()) {
+                    throw new WebApplicationException("Unexpected HTTP status " + status + " from CNCF Landscape API", status);
                 }
+
+                // Stream-parse the body; projects are produced item by item as it is read
+                long bodyStart = System.nanoTime();
+                try (MeteredInputStream body = new MeteredInputStream(response.readEntity(InputStream.class))) {
+                    ingestion = landscapeParser.ingest(body);
+                    bytes = body.bytes();
+                    downloadNanos = bodyStart - requestStart + body.readNanos();
+                    parseNanos = System.nanoTime() - bodyStart - body.readNanos();
+                }
+                projects = ingestion.projects();
+                newValidators = new CacheValidators(
+                    response.getHeaderString(HttpHeaders.ETAG),
+                    response.getHeaderString(HttpHeaders.LAST_MODIFIED));
+            }
+
+            if (projects.isEmpty()) {
+                LOG.warn("No projects found in CNCF Landscape data");
+                recordBreakdown(bytes, downloadNanos, parseNanos, 0, ingestion);
+                // Same as a failed download: without data to serve, report the outage instead of warming forever
+                lastError.set("No projects found in CNCF Landscape data");
+                lastErrorTime.set(Instant.now());
+                state.compareAndSet(DataState.WARMING, DataState.UNAVAILABLE);
+                return RefreshOutcome.EMPTY;
+            }
+
+            // Diff against the current snapshot; unchanged projects are carried over as they are
+            long indexStart = System.nanoTime();
+            Instant refreshedAt = Instant.now();
+            LandscapeSnapshot current = snapshot.get();
+            LandscapeDiff diff = LandscapeDiff.compute(current, projects);
+            ChangeLog changes = diff.changes();
+            if (!current.isEmpty() && !changes.hasChanges()) {
+                recordBreakdown(bytes, downloadNanos, parseNanos, System.nanoTime() - indexStart, ingestion);
+                cacheValidators.set(newValidators);
+                lastRefresh.set(refreshedAt);
+                lastError.set(null);
+                lastErrorTime.set(null);
+                ValidationReport validation = ingestion.validation();
+                if (!validation.equals(current.validation())) {
+                    // Same projects, other items rejected: the indexes carry over, the report is replaced
+                    LOG.debug("CNCF projects unchanged, publishing the new validation report");
+                    publish(current.revalidated(snapshotVersion.incrementAndGet(), changes, validation, refreshedAt));
+                    persist(current.projects(), validation, refreshedAt, newValidators);
+                } else {
+                    // Identical content: keep the snapshot and everything cached for it
+                    LOG.debug("CNCF data unchanged, keeping the current snapshot");
+                    // Only new validators are worth persisting, so the next process can still revalidate
+                    if (!newValidators.equals(persistedValidators.get())) {
+                        persist(current.projects(), validation, refreshedAt, newValidators);
+                    }
+                }
+                return RefreshOutcome.UNCHANGED;
             }
+
+            // Build the snapshot off the request path, then publish it in one step
+            LandscapeSnapshot newSnapshot = LandscapeSnapshot.build(snapshotVersion.incrementAndGet(), diff,
+                ingestion.validation(), refreshedAt);
+            recordBreakdown(bytes, downloadNanos, parseNanos, System.nanoTime() - indexStart, ingestion);
+
+            // Update cached data
+            publish(newSnapshot);
+            cacheValidators.set(newValidators);
+            lastRefresh.set(refreshedAt);
+            lastError.set(null);
+            lastErrorTime.set(null);
+            state.set(DataState.READY);
+
+            // Keep a local copy for instant, offline-capable startup
+            persist(newSnapshot.projects(), newSnapshot.validation(), refreshedAt, newValidators);
+
+            long duration = System.currentTimeMillis() - startTime;
+            LOG.infof("CNCF data refresh completed in %dms: %d projects processed (%d added, %d removed, %d changed, %d items dropped)",
+                     duration, projects.size(), changes.added().size(), changes.removed().size(), changes.changed().size(),
+                     ingestion.itemsDropped());
+
+            return RefreshOutcome.UPDATED;
+
         } catch (Exception e) {
-            LOG.debugf("Error extracting GitHub contributors: %s", e.getMessage());
+            LOG.errorf(e, "Failed to refresh CNCF data: %s", e.getMessage());
+            lastError.set(e.getMessage());
+            lastErrorTime.set(Instant.now());
+            state.compareAndSet(DataState.WARMING, DataState.UNAVAILABLE);
+            return RefreshOutcome.FAILED;
         }
-        return 0;
     }
 
     /**
-     * Extracts last commit date from project node.
-     *
-     * @param projectNode Project JSON node
-     * @return Last commit date or null
+     * Writes the projects and their validation report to the snapshot store with the validators of their response.
      */
-    private java.util.Date extractLastCommitDate(JsonNode projectNode) {
-        try {
-            JsonNode githubData = projectNode.path("github_data");
-            if (!githubData.isMissingNode()) {
-                JsonNode lastCommitNode = githubData.path("last_commit_at");
-                if (!lastCommitNode.isMissingNode() && !lastCommitNode.isNull()) {
-                    // Parse ISO 8601 date
-                    String dateStr = lastCommitNode.asText();
-                    return java.util.Date.from(Instant.parse(dateStr));
-                }
-            }
-        } catch (Exception e) {
-            LOG.debugf("Error extracting last commit date: %s", e.getMessage());
-        }
-        return null;
+    private void persist(List<CncfProject> projects, ValidationReport validation, Instant refreshedAt,
+                         CacheValidators validators) {
+        snapshotStore.save(projects, validation, refreshedAt, validators.etag(), validators.lastModified());
+        persistedValidators.set(validators);
     }
 
     /**
-     * Extracts first commit date from project node.
+     * Records the phases of a downloaded refresh, as metrics and as the last breakdown.
+     */
+    private void recordBreakdown(long bytes, long downloadNanos, long parseNanos, long indexNanos,
+                                 LandscapeParser.Ingestion ingestion) {
+        DistributionSummary.builder("cncf.refresh.download.size")
+            .description("Size of the downloaded landscape document")
+            .baseUnit("bytes")
+            .register(meterRegistry)
+            .record(bytes);
+        phaseTimer("download").record(downloadNanos, TimeUnit.NANOSECONDS);
+        phaseTimer("parse").record(parseNanos, TimeUnit.NANOSECONDS);
+        phaseTimer("index").record(indexNanos, TimeUnit.NANOSECONDS);
+        ingestion.validation().failures().forEach((failure, stats) ->
+            Counter.builder("cncf.refresh.items.invalid")
+                .description("Landscape items, or values of them, rejected during ingestion")
+                .tag("reason", failure.name().toLowerCase(Locale.ROOT))
+                .tag("dropped", String.valueOf(failure.dropsItem()))
+                .register(meterRegistry)
+                .increment(stats.count()));
+
+        lastBreakdown.set(new RefreshBreakdown(Instant.now(), bytes, Duration.ofNanos(downloadNanos),
+            Duration.ofNanos(parseNanos), Duration.ofNanos(indexNanos), ingestion.itemsRead(), ingestion.itemsDropped()));
+    }
+
+    private Timer phaseTimer(String phase) {
+        return Timer.builder("cncf.refresh.phase")
+            .description("Time spent in each phase of a downloaded refresh")
+            .tag("phase", phase)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Gets the current landscape snapshot. The snapshot is immutable and shared by
+     * all readers; take it once per request to work on a consistent view.
      *
-     * @param projectNode Project JSON node
-     * @return First commit date or null
+     * @return Current snapshot, {@link LandscapeSnapshot#EMPTY} until the first refresh completes
      */
-    private java.util.Date extractFirstCommitDate(JsonNode projectNode) {
-        try {
-            JsonNode githubData = projectNode.path("github_data");
-            if (!githubData.isMissingNode()) {
-                JsonNode firstCommitNode = githubData.path("first_commit_at");
-                if (!firstCommitNode.isMissingNode() && !firstCommitNode.isNull()) {
-                    // Parse ISO 8601 date
-                    String dateStr = firstCommitNode.asText();
-                    return java.util.Date.from(Instant.parse(dateStr));
-                }
-            }
-        } catch (Exception e) {
-            LOG.debugf("Error extracting first commit date: %s", e.getMessage());
-        }
-        return null;
+    public LandscapeSnapshot getSnapshot() {
+        return snapshot.get();
     }
 
     /**
      * Gets current cached projects.
      *
-     * @return List of cached CNCF projects
+     * @return Immutable list of cached CNCF projects
      */
     public List<CncfProject> getCurrentProjects() {
-        return new ArrayList<>(cachedProjects.get());
+        return snapshot.get().projects();
     }
 
     /**
@@ -434,13 +524,31 @@ public class CncfDataRefreshService {
     }
 
     /**
-     * Checks if data is fresh (refreshed within the last hour).
+     * Gets the current availability of the cached data.
+     *
+     * @return Data state
+     */
+    public DataState getState() {
+        return state.get();
+    }
+
+    /**
+     * Checks if data has been loaded and can be served.
+     *
+     * @return True if projects are available
+     */
+    public boolean isReady() {
+        return state.get() == DataState.READY;
+    }
+
+    /**
+     * Checks if data is fresh (refreshed within the configured refresh interval).
      *
      * @return True if data is fresh
      */
     public boolean isDataFresh() {
         Instant last = lastRefresh.get();
-        return last != null && last.isAfter(Instant.now().minusSeconds(3600));
+        return last != null && last.isAfter(Instant.now().minus(refreshInterval));
     }
 
     /**
@@ -449,7 +557,7 @@ public class CncfDataRefreshService {
      * @return True if refresh succeeded
      */
     public boolean forceRefresh() {
-        lastETag.set(""); // Invalidate ETag to force refresh
+        cacheValidators.set(CacheValidators.NONE); // Drop validators to force a full download
         return refreshData();
     }
 
@@ -461,9 +569,13 @@ public class CncfDataRefreshService {
     public java.util.Map<String, Object> getStatistics() {
         java.util.Map<String, Object> stats = new java.util.HashMap<>();
         stats.put("lastRefresh", lastRefresh.get().toString());
-        stats.put("projectCount", cachedProjects.get().size());
+        stats.put("projectCount", snapshot.get().projectCount());
+        stats.put("snapshotVersion", snapshot.get().version());
         stats.put("dataFresh", isDataFresh());
+        stats.put("state", state.get().name());
         stats.put("hasError", lastError.get() != null);
+        stats.put("refreshesStarted", refreshesStarted.sum());
+        stats.put("coalescedCallers", coalescedCallers.sum());
 
         if (lastError.get() != null) {
             stats.put("lastError", lastError.get());
@@ -473,14 +585,30 @@ public class CncfDataRefreshService {
         return stats;
     }
 
-    
     /**
-     * Async refresh using Java 25 virtual threads.
-     * Simple and efficient for concurrent operations.
+     * Gets the phase breakdown of the last refresh that downloaded the landscape.
      *
-     * @return CompletableFuture indicating refresh completion
+     * @return Last breakdown, or null if nothing was downloaded since startup
      */
-    public CompletableFuture<Boolean> refreshDataAsync() {
-        return CompletableFuture.supplyAsync(this::refreshData, virtualThreadExecutor);
+    public RefreshBreakdown getLastBreakdown() {
+        return lastBreakdown.get();
+    }
+
+    /**
+     * Gets the number of refreshes started, each one upstream request.
+     *
+     * @return Refreshes started since startup
+     */
+    public long getRefreshesStarted() {
+        return refreshesStarted.sum();
+    }
+
+    /**
+     * Gets the number of callers that joined a refresh already in flight instead of starting one.
+     *
+     * @return Coalesced callers since startup
+     */
+    public long getCoalescedCallers() {
+        return coalescedCallers.sum();
     }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package io.mcp.cncf.service;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.model.CncfModel.ProjectMetadata;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 64-bit FNV-1a hash of everything a project record holds.
+ *
+ * <p>Two projects with the same hash are treated as unchanged between refreshes.
+ * Every field is hashed with a terminator and null has its own marker, so moving
+ * text from one field to the next, or from a null to an empty string, changes the
+ * hash.</p>
+ */
+final class ContentHash {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    // Noncharacters, they do not occur in landscape text
+    private static final char TERMINATOR = '\uFFFF';
+    private static final char NULL = '\uFFFE';
+
+    private long hash = OFFSET_BASIS;
+
+    private ContentHash() {
+    }
+
+    /**
+     * Hashes the project and its metadata.
+     *
+     * @param project Project to hash
+     * @return Content hash
+     */
+    static long of(CncfProject project) {
+        ContentHash h = new ContentHash();
+        h.add(project.id()).add(project.name()).add(project.category()).add(project.subcategory())
+            .add(project.description()).add(project.homepageUrl()).add(project.repoUrl())
+            .add(project.maturity()).add(project.tags());
+
+        ProjectMetadata metadata = project.metadata();
+        if (metadata == null) {
+            h.add((String) null);
+        } else {
+            h.add(metadata.creationDate()).add(metadata.acceptanceDate()).add(metadata.graduationDate())
+                .add(metadata.latestVersion()).add(metadata.license()).add(metadata.organization())
+                .add(metadata.maintainers()).add(metadata.companies())
+                .add(metadata.stars()).add(metadata.forks())
+                .add(metadata.contributors()).add(metadata.openIssues()).add(metadata.crdbBacked())
+                .add(metadata.endUserSupport()).add(metadata.repoUrl()).add(metadata.homepage())
+                .add(metadata.lastCommitDate()).add(metadata.firstCommitDate()).add(metadata.contributorCount());
+        }
+        return h.hash;
+    }
+
+    private ContentHash add(String value) {
+        if (value == null) {
+            return mix(NULL).mix(TERMINATOR);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            mix(value.charAt(i));
+        }
+        return mix(TERMINATOR);
+    }
+
+    private ContentHash add(List<String> values) {
+        if (values == null) {
+            return mix(NULL).mix(TERMINATOR);
+        }
+        add(values.size());
+        for (String value : values) {
+            add(value);
+        }
+        return this;
+    }
+
+    private ContentHash add(Instant value) {
+        return value == null ? add((String) null) : add(value.getEpochSecond()).add(value.getNano());
+    }
+
+    private ContentHash add(long value) {
+        for (int shift = 0; shift < 64; shift += 16) {
+            mix((char) (value >>> shift));
+        }
+        return this;
+    }
+
+    private ContentHash mix(char c) {
+        hash = (hash ^ (c & 0xFF)) * PRIME;
+        hash = (hash ^ (c >>> 8)) * PRIME;
+        return this;
+    }
+}
@@ -0,0 +1,126 @@
+package io.mcp.cncf.service;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reconciles freshly parsed projects with the current snapshot.
+ *
+ * <p>Projects are matched by id and compared by {@link ContentHash}. An unchanged
+ * project is replaced by the instance of the current snapshot, so everything keyed
+ * on project identity (rendered markdown in particular) carries over to the new
+ * snapshot. The new snapshot keeps the document order of the parsed list. Ids that
+ * occur more than once are matched occurrence by occurrence.</p>
+ */
+final class LandscapeDiff {
+
+    private static final int NONE = -1;
+
+    private final List<CncfProject> projects;
+    private final long[] contentHashes;
+    private final ChangeLog changes;
+
+    private LandscapeDiff(List<CncfProject> projects, long[] contentHashes, ChangeLog changes) {
+        this.projects = projects;
+        this.contentHashes = contentHashes;
+        this.changes = changes;
+    }
+
+    /**
+     * Diffs the parsed projects against the previous snapshot.
+     *
+     * @param previous Current snapshot, or null if there is none
+     * @param parsed Projects of the new landscape document
+     * @return Reconciled projects, their hashes and the change log
+     */
+    static LandscapeDiff compute(LandscapeSnapshot previous, List<CncfProject> parsed) {
+        int size = parsed.size();
+        List<CncfProject> projects = new ArrayList<>(size);
+        long[] hashes = new long[size];
+
+        if (previous == null || previous.isEmpty()) {
+            for (int i = 0; i < size; i++) {
+                projects.add(parsed.get(i));
+                hashes[i] = ContentHash.of(parsed.get(i));
+            }
+            ChangeLog changes = previous == null
+                ? ChangeLog.NONE
+                : new ChangeLog(previous.version(), projects, List.of(), List.of(), 0);
+            return new LandscapeDiff(projects, hashes, changes);
+        }
+
+        // First ordinal of each id, then a chain to the next ordinal with the same id
+        List<CncfProject> old = previous.projects();
+        long[] oldHashes = previous.contentHashes();
+        Map<String, Integer> firstById = HashMap.newHashMap(old.size());
+        int[] nextSameId = new int[old.size()];
+        Arrays.fill(nextSameId, NONE);
+        for (int ordinal = old.size() - 1; ordinal >= 0; ordinal--) {
+            Integer next = firstById.put(old.get(ordinal).id(), ordinal);
+            if (next != null) {
+                nextSameId[ordinal] = next;
+            }
+        }
+        boolean[] matched = new boolean[old.size()];
+
+        List<CncfProject> added = new ArrayList<>();
+        List<ChangeLog.Change> changed = new ArrayList<>();
+        int unchanged = 0;
+        for (int i = 0; i < size; i++) {
+            CncfProject project = parsed.get(i);
+            long hash = ContentHash.of(project);
+            hashes[i] = hash;
+
+            int ordinal = firstById.getOrDefault(project.id(), NONE);
+            while (ordinal != NONE && matched[ordinal]) {
+                ordinal = nextSameId[ordinal];
+            }
+            if (ordinal == NONE) {
+                added.add(project);
+                projects.add(project);
+                continue;
+            }
+
+            matched[ordinal] = true;
+            if (oldHashes[ordinal] == hash) {
+                projects.add(old.get(ordinal));
+                unchanged++;
+            } else {
+                changed.add(new ChangeLog.Change(old.get(ordinal), project));
+                projects.add(project);
+            }
+        }
+
+        List<CncfProject> removed = new ArrayList<>();
+        for (int ordinal = 0; ordinal < old.size(); ordinal++) {
+            if (!matched[ordinal]) {
+                removed.add(old.get(ordinal));
+            }
+        }
+        return new LandscapeDiff(projects, hashes,
+            new ChangeLog(previous.version(), added, removed, changed, unchanged));
+    }
+
+    /**
+     * Projects of the new snapshot, unchanged ones being the previous instances.
+     */
+    List<CncfProject> projects() {
+        return projects;
+    }
+
+    /**
+     * Content hash of each project, by ordinal.
+     */
+    long[] contentHashes() {
+        return contentHashes;
+    }
+
+    ChangeLog changes() {
+        return changes;
+    }
+}
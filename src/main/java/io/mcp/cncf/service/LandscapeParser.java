@@ -0,0 +1,445 @@
+package io.mcp.cncf.service;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.service.ValidationReport.Failure;
+import io.mcp.cncf.service.ValidationReport.FailureStats;
+import io.mcp.cncf.service.ValidationReport.Field;
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Streaming parser for the CNCF Landscape {@code full.json} document.
+ *
+ * <p>Reads directly from the response stream with a Jackson {@link JsonParser}
+ * and materialises {@code items} elements a chunk at a time, so peak memory is
+ * bounded by the chunks in flight instead of the raw payload, its String copy and
+ * the full JSON tree. All other top-level sections are skipped without being built.</p>
+ *
+ * <p>Tokenising the stream is inherently sequential; turning item trees into
+ * projects is not. Each chunk of items is converted on the given executor while
+ * the stream is read on, and projects are still emitted in document order.</p>
+ *
+ * <p>Items that are not valid projects are left out and accounted for in a
+ * {@link ValidationReport}, together with the fields missing from accepted projects.</p>
+ */
+public final class LandscapeParser {
+
+    private static final Logger LOG = Logger.getLogger(LandscapeParser.class);
+
+    /** Items converted per task. */
+    static final int CHUNK_SIZE = 128;
+
+    /**
+     * Outcome of parsing one landscape document.
+     *
+     * @param projects Parsed projects, in document order
+     * @param validation What was rejected or missing
+     */
+    public record Ingestion(List<CncfProject> projects, ValidationReport validation) {
+
+        /**
+         * Number of {@code items} elements read, valid or not.
+         */
+        public int itemsRead() {
+            return validation.itemsRead();
+        }
+
+        /**
+         * Number of items that were not valid projects and were left out.
+         */
+        public int itemsDropped() {
+            return validation.itemsDropped();
+        }
+    }
+
+    /**
+     * Projects converted from one chunk of items, with the chunk's validation counts.
+     */
+    private record Chunk(List<CncfProject> projects, ValidationReport.Collector validation) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final int maxChunksInFlight;
+
+    /**
+     * Creates a parser that converts items on the calling thread.
+     */
+    public LandscapeParser(ObjectMapper objectMapper) {
+        this(objectMapper, Runnable::run, 1);
+    }
+
+    /**
+     * Creates a parser that converts chunks of items on the executor.
+     *
+     * @param objectMapper Mapper used to create the stream parser
+     * @param executor Executor for item conversion
+     * @param parallelism Number of chunks converted concurrently, at least 1
+     */
+    public LandscapeParser(ObjectMapper objectMapper, Executor executor, int parallelism) {
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        // Keep one chunk queued per worker so no worker waits on the reader
+        this.maxChunksInFlight = Math.max(1, parallelism) * 2;
+    }
+
+    /**
+     * Parses CNCF Landscape JSON data into a list of CncfProject objects.
+     *
+     * @param input JSON stream from CNCF Landscape
+     * @return List of parsed CNCF projects
+     * @throws IOException if the stream cannot be read or is not valid JSON
+     */
+    public List<CncfProject> parse(InputStream input) throws IOException {
+        return ingest(input).projects();
+    }
+
+    /**
+     * Parses CNCF Landscape JSON data, also reporting the items that were dropped.
+     *
+     * @param input JSON stream from CNCF Landscape
+     * @return Parsed projects and their validation report
+     * @throws IOException if the stream cannot be read or is not valid JSON
+     */
+    public Ingestion ingest(InputStream input) throws IOException {
+        List<CncfProject> projects = new ArrayList<>();
+        ValidationReport validation = read(input, projects::add);
+        return new Ingestion(projects, validation);
+    }
+
+    /**
+     * Parses CNCF Landscape JSON data, emitting each project as soon as its
+     * {@code items} element has been read.
+     *
+     * @param input JSON stream from CNCF Landscape
+     * @param sink Receiver of parsed projects, in document order
+     * @return Number of projects emitted
+     * @throws IOException if the stream cannot be read or is not valid JSON
+     */
+    public int parse(InputStream input, Consumer<CncfProject> sink) throws IOException {
+        return read(input, sink).projects();
+    }
+
+    /**
+     * Reads the document, emitting projects in document order.
+     *
+     * @return Validation report of the items read
+     */
+    private ValidationReport read(InputStream input, Consumer<CncfProject> sink) throws IOException {
+        int itemsRead = 0;
+        Deque<CompletableFuture<Chunk>> inFlight = new ArrayDeque<>();
+        ValueDictionary dictionary = new ValueDictionary();
+        ValidationReport.Collector validation = new ValidationReport.Collector();
+
+        try (JsonParser parser = objectMapper.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "CNCF Landscape data is not a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if (!"items".equals(field) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                List<JsonNode> chunk = new ArrayList<>(CHUNK_SIZE);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    // Only the items of the chunks in flight are materialised as trees
+                    chunk.add(parser.readValueAsTree());
+                    itemsRead++;
+                    if (chunk.size() == CHUNK_SIZE) {
+                        inFlight.add(convertAsync(chunk, itemsRead - CHUNK_SIZE, dictionary));
+                        chunk = new ArrayList<>(CHUNK_SIZE);
+                        if (inFlight.size() >= maxChunksInFlight) {
+                            emit(inFlight.remove(), sink, validation);
+                        }
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    inFlight.add(convertAsync(chunk, itemsRead - chunk.size(), dictionary));
+                }
+            }
+        }
+
+        while (!inFlight.isEmpty()) {
+            emit(inFlight.remove(), sink, validation);
+        }
+
+        ValidationReport report = validation.report();
+        LOG.debugf("Parsed %d of %d items from CNCF Landscape data (%d distinct shared values)",
+            report.projects(), report.itemsRead(), dictionary.size());
+        if (report.itemsDropped() > 0) {
+            LOG.warnf("Dropped %d of %d CNCF Landscape items: %s", report.itemsDropped(), report.itemsRead(), report.failures(true));
+        }
+        Map<Failure, FailureStats> ignored = report.failures(false);
+        if (!ignored.isEmpty()) {
+            LOG.warnf("Ignored malformed values in CNCF Landscape items: %s", ignored);
+        }
+        return report;
+    }
+
+    private CompletableFuture<Chunk> convertAsync(List<JsonNode> items, int firstIndex, ValueDictionary dictionary) {
+        return CompletableFuture.supplyAsync(() -> convert(items, firstIndex, dictionary), executor);
+    }
+
+    /**
+     * Converts a chunk of item trees, leaving out and reporting items that are not valid projects.
+     */
+    private Chunk convert(List<JsonNode> items, int firstIndex, ValueDictionary dictionary) {
+        List<CncfProject> projects = new ArrayList<>(items.size());
+        ValidationReport.Collector validation = new ValidationReport.Collector();
+        for (int i = 0; i < items.size(); i++) {
+            JsonNode itemNode = items.get(i);
+            int itemIndex = firstIndex + i;
+            validation.item();
+            if (!itemNode.isObject()) {
+                validation.failure(Failure.NOT_AN_OBJECT, itemIndex, itemNode.getNodeType().name().toLowerCase(Locale.ROOT));
+                continue;
+            }
+            try {
+                CncfProject project = parseProjectNode(itemNode, itemIndex, dictionary, validation);
+                if (project != null) {
+                    projects.add(project);
+                }
+            } catch (Exception e) {
+                validation.failure(Failure.INVALID_ITEM, itemIndex, e.getMessage());
+            }
+        }
+        return new Chunk(projects, validation);
+    }
+
+    /**
+     * Waits for a converted chunk, hands its projects to the sink and adds up its validation counts.
+     */
+    private static void emit(CompletableFuture<Chunk> pending, Consumer<CncfProject> sink,
+                             ValidationReport.Collector validation) {
+        Chunk chunk = pending.join();
+        chunk.projects().forEach(sink);
+        validation.merge(chunk.validation());
+    }
+
+    /**
+     * Parses a single project node from the CNCF Landscape data, reading each
+     * field of the item once. Low-cardinality values and tag lists are shared
+     * through the dictionary.
+     *
+     * @param projectNode JSON object of a single project
+     * @param itemIndex Position of the item in the document
+     * @param dictionary Shared values of this ingestion
+     * @param validation Validation counts of the chunk
+     * @return Parsed CncfProject, or null if invalid; the reason is recorded
+     */
+    private CncfProject parseProjectNode(JsonNode projectNode, int itemIndex, ValueDictionary dictionary,
+                                         ValidationReport.Collector validation) {
+        // Extract basic project information
+        String id = getNestedValue(projectNode, "id", "name");
+        if (id == null) {
+            validation.failure(Failure.MISSING_ID, itemIndex, null);
+            return null;
+        }
+
+        String name = getNestedValue(projectNode, "name");
+        if (name == null) {
+            validation.failure(Failure.MISSING_NAME, itemIndex, "id '" + id + "'");
+            return null;
+        }
+        String category = dictionary.intern(getNestedValue(projectNode, "category"));
+        if (category == null) {
+            validation.failure(Failure.MISSING_CATEGORY, itemIndex, "id '" + id + "'");
+            return null;
+        }
+        String description = getNestedValue(projectNode, "description");
+        String subcategory = dictionary.intern(getNestedValue(projectNode, "subcategory"));
+        String homepage = getNestedValue(projectNode, "homepage_url");
+        String repoUrl = getNestedValue(projectNode, "repo_url");
+
+        // Extract maturity level/landscape
+        String landscape = getNestedValue(projectNode, "landscape");
+        String maturity = dictionary.intern(getNestedValue(projectNode, "maturity"));
+        String oss = getNestedValue(projectNode, "oss");
+        String license = dictionary.intern(getNestedValue(projectNode, "license"));
+        String acceptanceDate = dictionary.intern(getNestedValue(projectNode, "acceptance_date"));
+        String graduationDate = dictionary.intern(getNestedValue(projectNode, "graduation_date"));
+        String latestVersion = getNestedValue(projectNode, "latest_version");
+        String org = dictionary.intern(getNestedValue(projectNode, "organization"));
+        String endUserSupport = dictionary.intern(getNestedValue(projectNode, "enduser_support"));
+
+        // Extract tags from the values already read; projects share one immutable list per tag set
+        List<String> tags = dictionary.intern(extractTags(maturity, category, landscape, oss));
+
+        // Extract GitHub metadata, one lookup of github_data for all of it
+        JsonNode githubData = projectNode.path("github_data");
+        int stars = githubInt(githubData, "stars");
+        int forks = githubInt(githubData, "forks");
+        int contributors = githubInt(githubData, "contributors");
+        Instant lastCommitDate = githubInstant(githubData, "last_commit_at", itemIndex, validation);
+        Instant firstCommitDate = githubInstant(githubData, "first_commit_at", itemIndex, validation);
+
+        // Create project metadata
+        var metadata = new io.mcp.cncf.model.CncfModel.ProjectMetadata(
+            "", // creationDate
+            acceptanceDate != null ? acceptanceDate : "",
+            graduationDate,
+            latestVersion,
+            license != null ? license : "",
+            org,
+            tags, // maintainers
+            tags, // companies
+            stars,
+            forks,
+            String.valueOf(contributors),
+            "", // openIssues
+            "", // crdbBacked
+            endUserSupport != null ? endUserSupport : "",
+            repoUrl != null ? repoUrl : "",
+            homepage != null ? homepage : "",
+            lastCommitDate,
+            firstCommitDate,
+            contributors
+        );
+
+        CncfProject project = new CncfProject(
+            id,
+            name,
+            category,
+            subcategory != null ? subcategory : "",
+            description != null ? description : "",
+            homepage != null ? homepage : "",
+            repoUrl != null ? repoUrl : "",
+            maturity != null ? maturity : "",
+            tags,
+            metadata
+        );
+
+        // Count absent values of accepted projects only; a branch per field on the happy path
+        validation.accepted();
+        if (description == null) validation.absent(Field.DESCRIPTION);
+        if (subcategory == null) validation.absent(Field.SUBCATEGORY);
+        if (homepage == null) validation.absent(Field.HOMEPAGE);
+        if (repoUrl == null) validation.absent(Field.REPOSITORY);
+        if (maturity == null) validation.absent(Field.MATURITY);
+        if (license == null) validation.absent(Field.LICENSE);
+        if (latestVersion == null) validation.absent(Field.LATEST_VERSION);
+        if (org == null) validation.absent(Field.ORGANIZATION);
+        if (githubData.isMissingNode() || githubData.isNull()) validation.absent(Field.GITHUB_DATA);
+        if (lastCommitDate == null) validation.absent(Field.LAST_COMMIT);
+        if (firstCommitDate == null) validation.absent(Field.FIRST_COMMIT);
+        return project;
+    }
+
+    /**
+     * Extracts nested value from JSON node.
+     *
+     * @param node JSON node
+     * @param paths Path names to try in order
+     * @return Extracted value or null
+     */
+    private String getNestedValue(JsonNode node, String... paths) {
+        for (String path : paths) {
+            JsonNode valueNode = node.path(path);
+            if (!valueNode.isMissingNode() && !valueNode.isNull()) {
+                String value = valueNode.asText();
+                if (!value.trim().isEmpty()) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Derives tags from the project's maturity, category, landscape and OSS flag.
+     *
+     * @param maturity Maturity level or null
+     * @param category Category or null
+     * @param landscape Landscape or null
+     * @param oss OSS flag or null
+     * @return List of tags
+     */
+    private List<String> extractTags(String maturity, String category, String landscape, String oss) {
+        List<String> tags = new ArrayList<>();
+
+        // Add maturity level as tag
+        if (maturity != null && !maturity.trim().isEmpty()) {
+            tags.add(maturity.toLowerCase().trim());
+        }
+
+        // Add category as tag
+        if (category != null && !category.trim().isEmpty()) {
+            tags.add(category.toLowerCase().trim().replace(" ", "-"));
+        }
+
+        // Add landscape as tag
+        if (landscape != null && !landscape.trim().isEmpty()) {
+            tags.add(landscape.toLowerCase().trim());
+        }
+
+        // Add OSS tag if applicable
+        if ("true".equalsIgnoreCase(oss)) {
+            tags.add("open-source");
+        }
+
+        // Add CNCF tag if it's a CNCF project
+        if (tags.contains("graduated") || tags.contains("incubating") || tags.contains("sandbox")) {
+            tags.add("cncf");
+        }
+
+        return tags;
+    }
+
+    /**
+     * Extracts a GitHub counter (stars, forks, contributors) from the github_data node.
+     *
+     * @param githubData The project's github_data node, possibly missing
+     * @param field Counter field name
+     * @return Counter value or 0
+     */
+    private int githubInt(JsonNode githubData, String field) {
+        JsonNode valueNode = githubData.path(field);
+        return valueNode.isMissingNode() ? 0 : valueNode.asInt();
+    }
+
+    /**
+     * Extracts an ISO 8601 timestamp (last or first commit) from the github_data node.
+     *
+     * @param githubData The project's github_data node, possibly missing
+     * @param field Timestamp field name
+     * @param itemIndex Position of the item, for the report
+     * @param validation Validation counts of the chunk
+     * @return Parsed time or null if absent or malformed; a malformed value is recorded
+     */
+    private Instant githubInstant(JsonNode githubData, String field, int itemIndex, ValidationReport.Collector validation) {
+        JsonNode valueNode = githubData.path(field);
+        if (valueNode.isMissingNode() || valueNode.isNull()) {
+            return null;
+        }
+        try {
+            return Instant.parse(valueNode.asText());
+        } catch (DateTimeParseException e) {
+            validation.failure(Failure.INVALID_TIMESTAMP, itemIndex, field + " '" + valueNode.asText() + "'");
+            return null;
+        }
+    }
+}
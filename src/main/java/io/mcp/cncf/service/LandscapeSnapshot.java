@@ -0,0 +1,111 @@
+package io.mcp.cncf.service;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.search.CategoryAggregates;
+import io.mcp.cncf.search.ProjectLookup;
+import io.mcp.cncf.search.SearchIndex;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable, versioned view of the CNCF landscape data.
+ *
+ * <p>A snapshot bundles the project list with every structure derived from it and
+ * is published atomically by {@link CncfDataRefreshService}. Readers share the same
+ * instance without copying. The version increases with every published snapshot,
+ * so caches of derived data can key on it.</p>
+ *
+ * <p>A refresh builds the next snapshot from a {@link LandscapeDiff} against the
+ * current one, which carries over the project instances that did not change and
+ * records what did in {@link #changes}.</p>
+ *
+ * <p>The {@link ValidationReport} of the document the projects were parsed from is
+ * part of the snapshot and is persisted with it, so it describes the data being
+ * served, also after a restore from disk.</p>
+ *
+ * @param version Monotonically increasing snapshot version, 0 for the empty snapshot
+ * @param projects Immutable project list; ordinals are positions in this list
+ * @param searchIndex Keyword search index over the projects
+ * @param projectLookup Name/id lookup over the projects
+ * @param categoryAggregates Category, subcategory and maturity histograms
+ * @param contentHashes {@link ContentHash} of each project, by ordinal; must not be modified
+ * @param changes Changes relative to the previous snapshot
+ * @param validation Items rejected and values missing in the document the projects came from
+ * @param refreshedAt When the data of this snapshot was fetched
+ */
+public record LandscapeSnapshot(
+    long version,
+    List<CncfProject> projects,
+    SearchIndex searchIndex,
+    ProjectLookup projectLookup,
+    CategoryAggregates categoryAggregates,
+    long[] contentHashes,
+    ChangeLog changes,
+    ValidationReport validation,
+    Instant refreshedAt
+) {
+    public static final LandscapeSnapshot EMPTY = build(0, List.of(), Instant.EPOCH);
+
+    public LandscapeSnapshot {
+        Objects.requireNonNull(projects, "Projects cannot be null");
+        Objects.requireNonNull(searchIndex, "Search index cannot be null");
+        Objects.requireNonNull(projectLookup, "Project lookup cannot be null");
+        Objects.requireNonNull(categoryAggregates, "Category aggregates cannot be null");
+        Objects.requireNonNull(contentHashes, "Content hashes cannot be null");
+        Objects.requireNonNull(changes, "Change log cannot be null");
+        Objects.requireNonNull(validation, "Validation report cannot be null");
+        Objects.requireNonNull(refreshedAt, "Refresh time cannot be null");
+    }
+
+    /**
+     * Builds a snapshot and all of its derived structures, without a previous snapshot
+     * and without a validation report.
+     *
+     * @param version Snapshot version
+     * @param projects Parsed projects, copied once into an immutable list
+     * @param refreshedAt When the data was fetched
+     * @return New snapshot
+     */
+    public static LandscapeSnapshot build(long version, List<CncfProject> projects, Instant refreshedAt) {
+        return build(version, LandscapeDiff.compute(null, projects), ValidationReport.NONE, refreshedAt);
+    }
+
+    /**
+     * Builds a snapshot from an already computed diff. Projects the diff found
+     * unchanged are the instances of the previous snapshot; the derived structures
+     * are built for the new project list.
+     */
+    static LandscapeSnapshot build(long version, LandscapeDiff diff, ValidationReport validation, Instant refreshedAt) {
+        List<CncfProject> published = List.copyOf(diff.projects());
+        return new LandscapeSnapshot(
+            version,
+            published,
+            SearchIndex.build(published),
+            ProjectLookup.build(published),
+            CategoryAggregates.build(published),
+            diff.contentHashes(),
+            diff.changes(),
+            validation,
+            refreshedAt
+        );
+    }
+
+    /**
+     * The same projects and derived structures under a new version, for a download
+     * with identical projects but a different validation report.
+     */
+    LandscapeSnapshot revalidated(long version, ChangeLog changes, ValidationReport validation, Instant refreshedAt) {
+        return new LandscapeSnapshot(version, projects, searchIndex, projectLookup, categoryAggregates, contentHashes,
+            changes, validation, refreshedAt);
+    }
+
+    public int projectCount() {
+        return projects.size();
+    }
+
+    public boolean isEmpty() {
+        return projects.isEmpty();
+    }
+}
@@ -0,0 +1,69 @@
+package io.mcp.cncf.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counts the bytes read from a response body and the time spent waiting for them.
+ *
+ * <p>The landscape document is parsed while it streams in, so download and parse
+ * time overlap. Time spent inside {@code read} is download time; the rest of the
+ * time spent consuming the body is parse time. The parser reads in buffered
+ * blocks, so timing each call costs next to nothing. Not thread-safe; the body
+ * is read by a single thread.</p>
+ */
+final class MeteredInputStream extends FilterInputStream {
+
+    private long bytes;
+    private long readNanos;
+
+    MeteredInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        long start = System.nanoTime();
+        int b = super.read();
+        readNanos += System.nanoTime() - start;
+        if (b >= 0) {
+            bytes++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        long start = System.nanoTime();
+        int n = super.read(buffer, offset, length);
+        readNanos += System.nanoTime() - start;
+        if (n > 0) {
+            bytes += n;
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long start = System.nanoTime();
+        long skipped = super.skip(n);
+        readNanos += System.nanoTime() - start;
+        bytes += skipped;
+        return skipped;
+    }
+
+    /**
+     * Number of bytes read so far.
+     */
+    long bytes() {
+        return bytes;
+    }
+
+    /**
+     * Time spent blocked in reads so far, in nanoseconds.
+     */
+    long readNanos() {
+        return readNanos;
+    }
+}
@@ -0,0 +1,31 @@
+package io.mcp.cncf.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Where the time of the last downloaded refresh went.
+ *
+ * <p>The body is parsed while it streams in: download time is the time until the
+ * response headers plus the time spent waiting for body bytes, and parse time is
+ * the rest of the time spent consuming the body. Index time covers diffing against
+ * the current snapshot and building the new one.</p>
+ *
+ * @param completedAt When the refresh completed
+ * @param bytes Size of the downloaded body
+ * @param download Time spent waiting on the network
+ * @param parse Time spent parsing and converting items
+ * @param index Time spent diffing and building the snapshot
+ * @param itemsRead Number of landscape items read
+ * @param itemsDropped Number of items that were not valid projects
+ */
+public record RefreshBreakdown(
+    Instant completedAt,
+    long bytes,
+    Duration download,
+    Duration parse,
+    Duration index,
+    int itemsRead,
+    int itemsDropped
+) {
+}
@@ -0,0 +1,164 @@
+package io.mcp.cncf.service;
+
+import io.mcp.cncf.config.SearchConstants;
+import io.mcp.cncf.model.CncfModel.SearchQuery;
+import io.mcp.cncf.model.CncfModel.SortOrder;
+import io.mcp.cncf.search.FilterIndex;
+import io.mcp.cncf.search.RankedResults;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache of ranked search results.
+ *
+ * <p>Clients tend to repeat the same search, often with a different limit. Entries
+ * are keyed by the snapshot version and the normalised query (keyword, category,
+ * tag, maturity, minimum stars, sort order) without the limit, and hold the ranking down to
+ * {@link SearchConstants#MAX_SEARCH_RESULTS}, so any limit is served as a prefix of
+ * one cached ranking. The cache is cleared when a new snapshot is published; the
+ * version in the key also keeps a ranking computed on an older snapshot from ever
+ * being served for a newer one.</p>
+ */
+@ApplicationScoped
+public class SearchResultCache {
+
+    private static final Logger LOG = Logger.getLogger(SearchResultCache.class);
+
+    /**
+     * Cache key. Keyword and category are normalised the way the search compares
+     * them, tag and maturity filters to their {@link FilterIndex#normalize canonical form}.
+     */
+    private record Key(long version, String keyword, String category, String tag, String maturity, int minStars,
+                       SortOrder sort) {
+
+        static Key of(long version, SearchQuery query) {
+            return new Key(
+                version,
+                query.keyword() != null ? query.keyword().toLowerCase(Locale.ROOT) : null,
+                FilterIndex.caseless(query.category()),
+                FilterIndex.normalize(query.tag()),
+                FilterIndex.normalize(query.maturityLevel()),
+                query.minStars(),
+                query.sort()
+            );
+        }
+    }
+
+    private final int maxEntries;
+    private final Map<Key, RankedResults> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Inject
+    public SearchResultCache(@ConfigProperty(name = "cncf.search.cache.max-entries", defaultValue = "512") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, RankedResults> eldest) {
+                if (size() > SearchResultCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Registers the cache counters and size with the meter registry.
+     */
+    @Inject
+    void registerMetrics(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("cncf.search.cache.lookups", hits, LongAdder::sum)
+            .description("Search result cache lookups")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("cncf.search.cache.lookups", misses, LongAdder::sum)
+            .description("Search result cache lookups")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        FunctionCounter.builder("cncf.search.cache.evictions", evictions, LongAdder::sum)
+            .description("Search result cache evictions")
+            .register(meterRegistry);
+        Gauge.builder("cncf.search.cache.entries", this, SearchResultCache::getSize)
+            .description("Rankings held by the search result cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Ranks the query on the snapshot, serving repeated queries from the cache.
+     *
+     * @param snapshot Snapshot to search
+     * @param query Search query
+     * @return Ranking down to {@link SearchConstants#MAX_SEARCH_RESULTS} matches, with the full match set
+     */
+    public RankedResults rank(LandscapeSnapshot snapshot, SearchQuery query) {
+        if (maxEntries <= 0) {
+            return snapshot.searchIndex().rank(query, query.limit());
+        }
+
+        Key key = Key.of(snapshot.version(), query);
+        RankedResults ranked;
+        synchronized (entries) {
+            ranked = entries.get(key);
+        }
+        if (ranked != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            ranked = snapshot.searchIndex().rank(query, SearchConstants.MAX_SEARCH_RESULTS);
+            synchronized (entries) {
+                entries.put(key, ranked);
+            }
+        }
+        return ranked;
+    }
+
+    /**
+     * Drops every cached ranking when a new snapshot becomes current.
+     */
+    void onSnapshotPublished(@Observes SnapshotPublished event) {
+        invalidate();
+        LOG.debugf("Search result cache cleared for snapshot %d (hits: %d, misses: %d, evictions: %d)",
+            event.snapshot().version(), hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * Removes all entries. Counters are kept.
+     */
+    public void invalidate() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.mcp.cncf.service;
+
+/**
+ * CDI event fired by {@link CncfDataRefreshService} whenever a new landscape
+ * snapshot becomes current, so caches of data derived from the previous one can
+ * be dropped.
+ *
+ * @param snapshot Newly published snapshot
+ */
+public record SnapshotPublished(LandscapeSnapshot snapshot) {
+}
@@ -0,0 +1,365 @@
+package io.mcp.cncf.service;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.model.CncfModel.ProjectMetadata;
+import io.mcp.cncf.service.ValidationReport.Failure;
+import io.mcp.cncf.service.ValidationReport.FailureStats;
+import io.mcp.cncf.service.ValidationReport.Field;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Persists the last good landscape data to a local cache directory so a new
+ * process can serve queries immediately, and offline, without fetching full.json.
+ *
+ * <p>The file is a compact binary encoding of the parsed projects, the validation
+ * report of the document they were parsed from and the HTTP validators of the
+ * response it came with. A fixed header carries a magic
+ * number, the format version, the payload length and a CRC-32 of the payload;
+ * a file that fails any of these checks is discarded and the service falls back
+ * to the network. Commit times keep their full precision, so restored projects
+ * hash like freshly parsed ones, and repeated values are shared again on load.</p>
+ */
+@ApplicationScoped
+public class SnapshotStore {
+
+    private static final Logger LOG = Logger.getLogger(SnapshotStore.class);
+
+    static final int MAGIC = 0x434E4346; // "CNCF"
+    static final int FORMAT_VERSION = 6;
+    static final String FILE_NAME = "landscape-snapshot.bin";
+    private static final int HEADER_SIZE = 4 + 4 + 4 + 8;
+    private static final int MAX_PAYLOAD_SIZE = 256 * 1024 * 1024;
+
+    /**
+     * Landscape data read back from disk.
+     */
+    public record StoredSnapshot(List<CncfProject> projects, ValidationReport validation, Instant refreshedAt,
+                                 String etag, String lastModified) {
+    }
+
+    @ConfigProperty(name = "cncf.cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "cncf.cache.dir", defaultValue = "${user.home}/.cache/cncf-tech-advisor")
+    String cacheDir;
+
+    /**
+     * Path of the snapshot file.
+     */
+    Path snapshotFile() {
+        return Path.of(cacheDir).resolve(FILE_NAME);
+    }
+
+    /**
+     * Loads the persisted snapshot. A missing file yields an empty result; an
+     * unreadable, outdated or corrupt file is deleted and also yields an empty result.
+     *
+     * @return Stored landscape data, if a valid snapshot exists
+     */
+    public Optional<StoredSnapshot> load() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Path file = snapshotFile();
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            int magic = in.readInt();
+            int version = in.readInt();
+            int payloadSize = in.readInt();
+            long checksum = in.readLong();
+            if (magic != MAGIC || version != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format (magic " + Integer.toHexString(magic) + ", version " + version + ")");
+            }
+            if (payloadSize < 0 || payloadSize > MAX_PAYLOAD_SIZE) {
+                throw new IOException("Invalid snapshot payload size " + payloadSize);
+            }
+
+            byte[] payload = in.readNBytes(payloadSize);
+            if (payload.length != payloadSize) {
+                throw new IOException("Truncated snapshot file");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if (crc.getValue() != checksum) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+
+            StoredSnapshot snapshot = decode(new DataInputStream(new ByteArrayInputStream(payload)));
+            LOG.infof("Loaded %d CNCF projects from %s", snapshot.projects().size(), file);
+            return Optional.of(snapshot);
+
+        } catch (Exception e) {
+            LOG.warnf("Discarding unreadable CNCF snapshot %s: %s", file, e.getMessage());
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException deleteError) {
+                LOG.debugf("Could not delete snapshot file: %s", deleteError.getMessage());
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the snapshot atomically (temporary file, then rename), replacing any
+     * previous one. Failures are logged and otherwise ignored; persistence is best effort.
+     *
+     * @param projects Projects to persist
+     * @param validation Validation report of the document the projects were parsed from
+     * @param refreshedAt When the data was fetched
+     * @param etag ETag of the response the data came from, or null
+     * @param lastModified Last-Modified of the response the data came from, or null
+     */
+    public void save(List<CncfProject> projects, ValidationReport validation, Instant refreshedAt, String etag,
+                     String lastModified) {
+        if (!enabled) {
+            return;
+        }
+        Path file = snapshotFile();
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(projects.size() * 512);
+            encode(new DataOutputStream(buffer), new StoredSnapshot(projects, validation, refreshedAt, etag, lastModified));
+            byte[] payload = buffer.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(payload.length);
+                out.writeLong(crc.getValue());
+                out.write(payload);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOG.debugf("Persisted %d CNCF projects (%d bytes) to %s", projects.size(), HEADER_SIZE + payload.length, file);
+
+        } catch (Exception e) {
+            LOG.warnf("Failed to persist CNCF snapshot to %s: %s", file, e.getMessage());
+        }
+    }
+
+    private static void encode(DataOutputStream out, StoredSnapshot snapshot) throws IOException {
+        writeString(out, snapshot.etag());
+        writeString(out, snapshot.lastModified());
+        out.writeLong(snapshot.refreshedAt().toEpochMilli());
+        writeValidation(out, snapshot.validation());
+        out.writeInt(snapshot.projects().size());
+
+        for (CncfProject project : snapshot.projects()) {
+            writeString(out, project.id());
+            writeString(out, project.name());
+            writeString(out, project.category());
+            writeString(out, project.subcategory());
+            writeString(out, project.description());
+            writeString(out, project.homepageUrl());
+            writeString(out, project.repoUrl());
+            writeString(out, project.maturity());
+            writeStrings(out, project.tags());
+
+            ProjectMetadata metadata = project.metadata();
+            out.writeBoolean(metadata != null);
+            if (metadata != null) {
+                writeString(out, metadata.creationDate());
+                writeString(out, metadata.acceptanceDate());
+                writeString(out, metadata.graduationDate());
+                writeString(out, metadata.latestVersion());
+                writeString(out, metadata.license());
+                writeString(out, metadata.organization());
+                writeStrings(out, metadata.maintainers());
+                writeStrings(out, metadata.companies());
+                out.writeInt(metadata.stars());
+                out.writeInt(metadata.forks());
+                writeString(out, metadata.contributors());
+                writeString(out, metadata.openIssues());
+                writeString(out, metadata.crdbBacked());
+                writeString(out, metadata.endUserSupport());
+                writeString(out, metadata.repoUrl());
+                writeString(out, metadata.homepage());
+                writeInstant(out, metadata.lastCommitDate());
+                writeInstant(out, metadata.firstCommitDate());
+                out.writeInt(metadata.contributorCount());
+            }
+        }
+        out.flush();
+    }
+
+    private static StoredSnapshot decode(DataInputStream in) throws IOException {
+        String etag = readString(in);
+        String lastModified = readString(in);
+        Instant refreshedAt = Instant.ofEpochMilli(in.readLong());
+        ValidationReport validation = readValidation(in);
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid project count " + count);
+        }
+
+        // Shares repeated values the way the parser does
+        ValueDictionary dictionary = new ValueDictionary();
+        List<CncfProject> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = readString(in);
+            String name = readString(in);
+            String category = dictionary.intern(readString(in));
+            String subcategory = dictionary.intern(readString(in));
+            String description = readString(in);
+            String homepageUrl = readString(in);
+            String repoUrl = readString(in);
+            String maturity = dictionary.intern(readString(in));
+            List<String> tags = dictionary.intern(readStrings(in));
+
+            ProjectMetadata metadata = null;
+            if (in.readBoolean()) {
+                String creationDate = readString(in);
+                String acceptanceDate = dictionary.intern(readString(in));
+                String graduationDate = dictionary.intern(readString(in));
+                String latestVersion = readString(in);
+                String license = dictionary.intern(readString(in));
+                String organization = dictionary.intern(readString(in));
+                List<String> maintainers = dictionary.intern(readStrings(in));
+                List<String> companies = dictionary.intern(readStrings(in));
+                int stars = in.readInt();
+                int forks = in.readInt();
+                String contributors = readString(in);
+                String openIssues = readString(in);
+                String crdbBacked = readString(in);
+                String endUserSupport = dictionary.intern(readString(in));
+                String metadataRepoUrl = readString(in);
+                String homepage = readString(in);
+                Instant lastCommit = readInstant(in);
+                Instant firstCommit = readInstant(in);
+                int contributorCount = in.readInt();
+                metadata = new ProjectMetadata(creationDate, acceptanceDate, graduationDate, latestVersion, license,
+                    organization, maintainers, companies, stars, forks, contributors, openIssues, crdbBacked,
+                    endUserSupport, metadataRepoUrl, homepage, lastCommit, firstCommit, contributorCount);
+            }
+
+            projects.add(new CncfProject(id, name, category, subcategory, description, homepageUrl, repoUrl,
+                maturity, tags, metadata));
+        }
+        return new StoredSnapshot(projects, validation, refreshedAt, etag, lastModified);
+    }
+
+    private static void writeValidation(DataOutputStream out, ValidationReport validation) throws IOException {
+        out.writeBoolean(validation.isAvailable());
+        if (!validation.isAvailable()) {
+            return;
+        }
+        out.writeInt(validation.itemsRead());
+        out.writeInt(validation.projects());
+        out.writeInt(validation.failures().size());
+        for (Map.Entry<Failure, FailureStats> entry : validation.failures().entrySet()) {
+            writeString(out, entry.getKey().name());
+            out.writeInt(entry.getValue().count());
+            writeStrings(out, entry.getValue().samples());
+        }
+        out.writeInt(validation.absentFields().size());
+        for (Map.Entry<Field, Integer> entry : validation.absentFields().entrySet()) {
+            writeString(out, entry.getKey().name());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    private static ValidationReport readValidation(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return ValidationReport.NONE;
+        }
+        int itemsRead = in.readInt();
+        int projects = in.readInt();
+        // An unknown name throws IllegalArgumentException and the file is discarded like any corrupt one
+        Map<Failure, FailureStats> failures = new EnumMap<>(Failure.class);
+        for (int i = in.readInt(); i > 0; i--) {
+            Failure failure = Failure.valueOf(readString(in));
+            int count = in.readInt();
+            failures.put(failure, new FailureStats(count, readStrings(in)));
+        }
+        Map<Field, Integer> absentFields = new EnumMap<>(Field.class);
+        for (int i = in.readInt(); i > 0; i--) {
+            Field field = Field.valueOf(readString(in));
+            absentFields.put(field, in.readInt());
+        }
+        return new ValidationReport(itemsRead, projects, failures, absentFields);
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getEpochSecond());
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long seconds = in.readLong();
+        return Instant.ofEpochSecond(seconds, in.readInt());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,249 @@
+package io.mcp.cncf.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What ingestion rejected or found missing in one landscape document.
+ *
+ * <p>Items that cannot become a project are counted by {@link Failure} class, with
+ * the first few reasons kept as samples. For the projects that were accepted, the
+ * number of absent values is counted per {@link Field}. Everything is collected per
+ * chunk of items without sharing and merged in document order; a valid item only
+ * costs an increment per absent field.</p>
+ *
+ * @param itemsRead Number of {@code items} elements read
+ * @param projects Number of items accepted as projects
+ * @param failures Failure counts and samples, by class; only classes that occurred
+ * @param absentFields Number of accepted projects without a value, by field; only fields that were absent
+ */
+public record ValidationReport(
+    int itemsRead,
+    int projects,
+    Map<Failure, FailureStats> failures,
+    Map<Field, Integer> absentFields
+) {
+    /** No document ingested, the report of {@link LandscapeSnapshot#EMPTY}. */
+    public static final ValidationReport NONE = new ValidationReport(0, 0, Map.of(), Map.of());
+
+    /** Sample reasons kept per failure class. */
+    static final int MAX_SAMPLES = 3;
+
+    public ValidationReport {
+        failures = failures.isEmpty() ? Map.of() : Collections.unmodifiableMap(new EnumMap<>(failures));
+        absentFields = absentFields.isEmpty() ? Map.of() : Collections.unmodifiableMap(new EnumMap<>(absentFields));
+    }
+
+    /**
+     * Why an item was rejected or a value ignored.
+     */
+    public enum Failure {
+        NOT_AN_OBJECT("Not a JSON object", true),
+        MISSING_ID("Missing id and name", true),
+        MISSING_NAME("Missing name", true),
+        MISSING_CATEGORY("Missing category", true),
+        INVALID_ITEM("Invalid item", true),
+        INVALID_TIMESTAMP("Malformed commit timestamp, ignored", false);
+
+        private final String label;
+        private final boolean dropsItem;
+
+        Failure(String label, boolean dropsItem) {
+            this.label = label;
+            this.dropsItem = dropsItem;
+        }
+
+        public String label() {
+            return label;
+        }
+
+        /**
+         * Whether the item is left out of the snapshot, rather than only the value.
+         */
+        public boolean dropsItem() {
+            return dropsItem;
+        }
+    }
+
+    /**
+     * Optional project fields whose absence is counted.
+     */
+    public enum Field {
+        DESCRIPTION("description"),
+        SUBCATEGORY("subcategory"),
+        HOMEPAGE("homepage_url"),
+        REPOSITORY("repo_url"),
+        MATURITY("maturity"),
+        LICENSE("license"),
+        LATEST_VERSION("latest_version"),
+        ORGANIZATION("organization"),
+        GITHUB_DATA("github_data"),
+        LAST_COMMIT("github_data.last_commit_at"),
+        FIRST_COMMIT("github_data.first_commit_at");
+
+        private final String jsonName;
+
+        Field(String jsonName) {
+            this.jsonName = jsonName;
+        }
+
+        /**
+         * Name of the field in the landscape document.
+         */
+        public String jsonName() {
+            return jsonName;
+        }
+    }
+
+    /**
+     * Occurrences of one failure class.
+     *
+     * @param count Number of occurrences
+     * @param samples Reasons of the first occurrences, at most {@value #MAX_SAMPLES}
+     */
+    public record FailureStats(int count, List<String> samples) {
+
+        public FailureStats {
+            samples = List.copyOf(samples);
+        }
+    }
+
+    /**
+     * Number of items left out of the snapshot.
+     */
+    public int itemsDropped() {
+        int dropped = 0;
+        for (Map.Entry<Failure, FailureStats> entry : failures.entrySet()) {
+            if (entry.getKey().dropsItem()) {
+                dropped += entry.getValue().count();
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * Failures that dropped their item, or those that only ignored a value.
+     *
+     * @param dropsItem Which of the two to return, see {@link Failure#dropsItem()}
+     * @return Failure counts and samples, by class
+     */
+    public Map<Failure, FailureStats> failures(boolean dropsItem) {
+        Map<Failure, FailureStats> selected = new EnumMap<>(Failure.class);
+        failures.forEach((failure, stats) -> {
+            if (failure.dropsItem() == dropsItem) {
+                selected.put(failure, stats);
+            }
+        });
+        return selected;
+    }
+
+    /**
+     * Share of accepted projects without a value for the field.
+     *
+     * @return Rate between 0 and 1
+     */
+    public double absentRate(Field field) {
+        return projects > 0 ? (double) absentFields.getOrDefault(field, 0) / projects : 0.0;
+    }
+
+    /**
+     * Whether this report describes an ingested document.
+     */
+    public boolean isAvailable() {
+        return this != NONE;
+    }
+
+    /**
+     * Collects the report of one chunk of items; not thread-safe.
+     */
+    static final class Collector {
+
+        private final int[] failureCounts = new int[Failure.values().length];
+        private final int[] absentCounts = new int[Field.values().length];
+        private List<List<String>> samples;
+        private int itemsRead;
+        private int projects;
+
+        void item() {
+            itemsRead++;
+        }
+
+        void accepted() {
+            projects++;
+        }
+
+        void absent(Field field) {
+            absentCounts[field.ordinal()]++;
+        }
+
+        /**
+         * Records a failure; the reason is only built for the samples that are kept.
+         *
+         * @param failure Failure class
+         * @param itemIndex Position of the item in the document
+         * @param reason Reason, may be null
+         */
+        void failure(Failure failure, int itemIndex, String reason) {
+            int count = failureCounts[failure.ordinal()]++;
+            if (count >= MAX_SAMPLES) {
+                return;
+            }
+            if (samples == null) {
+                samples = new ArrayList<>(Failure.values().length);
+                for (int i = 0; i < Failure.values().length; i++) {
+                    samples.add(new ArrayList<>(MAX_SAMPLES));
+                }
+            }
+            samples.get(failure.ordinal()).add("item " + itemIndex + (reason != null ? ": " + reason : ""));
+        }
+
+        /**
+         * Adds the counts of a later chunk; samples are kept in document order.
+         */
+        void merge(Collector later) {
+            itemsRead += later.itemsRead;
+            projects += later.projects;
+            for (int i = 0; i < absentCounts.length; i++) {
+                absentCounts[i] += later.absentCounts[i];
+            }
+            for (int i = 0; i < failureCounts.length; i++) {
+                failureCounts[i] += later.failureCounts[i];
+            }
+            if (later.samples == null) {
+                return;
+            }
+            if (samples == null) {
+                samples = later.samples;
+                return;
+            }
+            for (int i = 0; i < samples.size(); i++) {
+                List<String> kept = samples.get(i);
+                for (String sample : later.samples.get(i)) {
+                    if (kept.size() < MAX_SAMPLES) {
+                        kept.add(sample);
+                    }
+                }
+            }
+        }
+
+        ValidationReport report() {
+            Map<Failure, FailureStats> failures = new EnumMap<>(Failure.class);
+            for (Failure failure : Failure.values()) {
+                int count = failureCounts[failure.ordinal()];
+                if (count > 0) {
+                    failures.put(failure, new FailureStats(count, samples.get(failure.ordinal())));
+                }
+            }
+            Map<Field, Integer> absent = new EnumMap<>(Field.class);
+            for (Field field : Field.values()) {
+                if (absentCounts[field.ordinal()] > 0) {
+                    absent.put(field, absentCounts[field.ordinal()]);
+                }
+            }
+            return new ValidationReport(itemsRead, projects, failures, absent);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.mcp.cncf.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares equal values between the projects of one ingestion.
+ *
+ * <p>Categories, subcategories, maturity levels, licenses, organizations and tag
+ * lists repeat across thousands of projects but have only a few dozen distinct
+ * values. Each distinct value is kept once and every project refers to that
+ * instance; tag lists are shared as immutable lists. Safe for use from the
+ * threads converting items concurrently.</p>
+ */
+final class ValueDictionary {
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+    private final Map<List<String>, List<String>> lists = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the shared instance of the value.
+     *
+     * @param value Value, may be null
+     * @return Equal shared value, or null for null
+     */
+    String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String shared = strings.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+
+    /**
+     * Gets the shared immutable list equal to the given one, its elements interned.
+     *
+     * @param values List, may be null
+     * @return Equal shared list, or null for null
+     */
+    List<String> intern(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        if (values.isEmpty()) {
+            return List.of();
+        }
+        List<String> shared = lists.get(values);
+        if (shared != null) {
+            return shared;
+        }
+        String[] elements = new String[values.size()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = intern(values.get(i));
+        }
+        List<String> list = List.of(elements);
+        shared = lists.putIfAbsent(list, list);
+        return shared != null ? shared : list;
+    }
+
+    /**
+     * Number of distinct values and lists held.
+     */
+    int size() {
+        return strings.size() + lists.size();
+    }
+}
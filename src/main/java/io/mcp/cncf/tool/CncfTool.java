@@ -3,28 +3,57 @@ package io.mcp.cncf.tool;
 import io.mcp.cncf.client.CncfLandscapeClient;
 import io.mcp.cncf.config.SearchConstants;
 import io.mcp.cncf.model.CncfModel.*;
+import io.mcp.cncf.search.CategoryAggregates;
+import io.mcp.cncf.search.FacetIndex;
+import io.mcp.cncf.search.ProjectLookup;
+import io.mcp.cncf.search.RankedResults;
+import io.mcp.cncf.service.ChangeLog;
 import io.mcp.cncf.service.CncfDataRefreshService;
+import io.mcp.cncf.service.LandscapeSnapshot;
+import io.mcp.cncf.service.RefreshBreakdown;
+import io.mcp.cncf.service.SearchResultCache;
+import io.mcp.cncf.service.ValidationReport;
 import io.mcp.cncf.util.ErrorHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
 import io.quarkiverse.mcp.server.TextContent;
 import io.quarkiverse.mcp.server.Tool;
+import io.quarkiverse.mcp.server.ToolArg;
 import io.quarkiverse.mcp.server.ToolResponse;
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 
-import java.util.ArrayList;
+import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Simple CNCF Tech Advisor MCP Tool.
  * Provides essential CNCF project search functionality.
  * Clean, focused, production-ready.
  */
+@MeteredTool
 @ApplicationScoped
 public class CncfTool {
 
+    private static final int MAX_SUGGESTIONS = 5;
+    private static final int MAX_CHANGES_LISTED = 25;
+
+    /**
+     * Rendered category listings of one snapshot version; drill-downs are rendered on first use.
+     */
+    private record CategoryMarkdown(long version, String overview, Map<String, String> drillDowns) {
+    }
+
     @RestClient
     @Inject
     CncfLandscapeClient client;
@@ -33,18 +62,41 @@ public class CncfTool {
     @Inject
     CncfDataRefreshService refreshService;
 
+    @Inject
+    SearchResultCache searchResultCache;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final AtomicReference<CategoryMarkdown> categoryMarkdown = new AtomicReference<>();
+    private final AtomicReference<ProjectMarkdown> projectMarkdown = new AtomicReference<>();
+
     /**
-     * Search CNCF projects by keyword or category.
+     * Search CNCF projects by keyword or category, optionally filtered by tag, maturity level and stars,
+     * ordered by relevance or by a GitHub metric, with facet counts over all matches on request.
      */
-    @Tool(name = "search_cncf", description = "Search CNCF projects by keyword or category")
-    public ToolResponse searchCncfProjects(String query, String category, Integer limit) {
+    @Tool(name = "search_cncf", description = "Search CNCF projects by keyword or category, optionally filtered by tag, maturity level and GitHub stars, sorted by relevance, recent activity, stars or contributors, with optional facet counts")
+    public ToolResponse searchCncfProjects(String query, String category, Integer limit,
+            @ToolArg(description = "Only return projects with one of these tags (comma-separated, optional)", required = false) String tag,
+            @ToolArg(description = "Only return projects with one of these maturity levels, e.g. graduated, incubating, sandbox (comma-separated, optional)", required = false) String maturity,
+            @ToolArg(description = "Only return projects with at least this many GitHub stars (optional)", required = false) Integer minStars,
+            @ToolArg(description = "Also count all matches by category, subcategory, maturity, license and open source (optional)", required = false) Boolean facets,
+            @ToolArg(description = "Sort order: relevance (default), recency, stars or contributors (optional)", required = false) String sort) {
         try {
-            // Ensure data is fresh
-            refreshService.refreshData();
+            SortOrder sortOrder = parseSortOrder(sort);
+            if (sortOrder == null) {
+                return ToolResponse.error("Unknown sort order '" + sort + "'. Use relevance, recency, stars or contributors.");
+            }
+
+            // Serve cached data; stale data triggers a background refresh
+            refreshService.revalidateIfStale();
+            if (!refreshService.isReady()) {
+                return dataNotReadyResponse();
+            }
 
             // Get current projects
-            List<CncfProject> projects = refreshService.getCurrentProjects();
-            if (projects.isEmpty()) {
+            LandscapeSnapshot snapshot = refreshService.getSnapshot();
+            if (snapshot.isEmpty()) {
                 return ToolResponse.error("No CNCF projects available. Please try again later.");
             }
 
@@ -52,16 +104,20 @@ public class CncfTool {
             SearchQuery searchQuery = new SearchQuery(
                 query != null && !query.trim().isEmpty() ? query : null,
                 category != null && !category.trim().isEmpty() ? category : null,
-                null, // tag filter
-                null, // maturity filter
+                tag != null && !tag.trim().isEmpty() ? tag : null,
+                maturity != null && !maturity.trim().isEmpty() ? maturity : null,
+                minStars != null && minStars > 0 ? minStars : 0,
+                sortOrder,
                 limit != null && limit > 0 ? Math.min(limit, SearchConstants.MAX_SEARCH_RESULTS) : SearchConstants.DEFAULT_SEARCH_LIMIT
             );
 
-            // Perform search
-            List<SearchResult> results = performSearch(projects, searchQuery);
+            // Perform search; repeated queries are served from the result cache
+            RankedResults ranked = searchResultCache.rank(snapshot, searchQuery);
+            List<SearchResult> results = ranked.toResults(snapshot.projects(), searchQuery);
 
-            // Format results
-            StringBuilder output = new StringBuilder();
+            // Format results from the memoised project cards
+            ProjectMarkdown markdown = projectMarkdown(snapshot);
+            StringBuilder output = new StringBuilder(64 + results.size() * 512);
             output.append("## CNCF Project Search Results\n\n");
 
             if (results.isEmpty()) {
@@ -70,34 +126,18 @@ public class CncfTool {
                 output.append("Found ").append(results.size()).append(" projects:\n\n");
 
                 for (SearchResult result : results) {
-                    CncfProject project = result.project();
-                    output.append("### ").append(project.name()).append("\n");
-                    output.append("**Category:** ").append(project.category()).append("\n");
-
-                    if (project.subcategory() != null && !project.subcategory().isEmpty()) {
-                        output.append("**Subcategory:** ").append(project.subcategory()).append("\n");
-                    }
-
-                    if (project.description() != null && !project.description().isEmpty()) {
-                        output.append("**Description:** ").append(project.description()).append("\n");
-                    }
-
-                    output.append("**Maturity:** ").append(project.maturity()).append("\n");
-                    output.append("**Quality Rating:** ").append(project.getQualityRating()).append("\n");
-
-                    if (project.homepageUrl() != null && !project.homepageUrl().isEmpty()) {
-                        output.append("**Homepage:** ").append(project.homepageUrl()).append("\n");
-                    }
-
-                    if (project.repoUrl() != null && !project.repoUrl().isEmpty()) {
-                        output.append("**Repository:** ").append(project.repoUrl()).append("\n");
-                    }
-
-                    output.append("**Relevance Score:** ").append(String.format("%.1f", result.relevanceScore())).append("\n");
+                    output.append(markdown.card(result.project()));
+                    output.append("**Relevance Score:** ");
+                    ProjectMarkdown.appendScore(output, result.relevanceScore()).append("\n");
+                    ProjectMarkdown.appendSortMetric(output, result.project(), sortOrder);
                     output.append("\n---\n\n");
                 }
             }
 
+            if (Boolean.TRUE.equals(facets)) {
+                appendFacets(output, ranked.matchCount(), ranked.facets(snapshot.searchIndex().facets()));
+            }
+
             return ToolResponse.success(List.of(new TextContent(output.toString())));
 
         } catch (Exception e) {
@@ -108,111 +148,129 @@ public class CncfTool {
     /**
      * Get information about a specific CNCF project.
      */
-    @Tool(name = "get_cncf_project", description = "Get detailed information about a specific CNCF project")
+    @Tool(name = "get_cncf_project", description = "Get detailed information about a specific CNCF project by name, id or repository (owner/repo)")
     public ToolResponse getCncfProject(String projectName) {
         try {
             if (projectName == null || projectName.trim().isEmpty()) {
                 return ToolResponse.error("Project name is required");
             }
 
-            // Ensure data is fresh
-            refreshService.refreshData();
-
-            // Search for the project
-            List<CncfProject> projects = refreshService.getCurrentProjects();
-            CncfProject foundProject = null;
-
-            for (CncfProject project : projects) {
-                if (project.name().equalsIgnoreCase(projectName.trim())) {
-                    foundProject = project;
-                    break;
-                }
+            // Serve cached data; stale data triggers a background refresh
+            refreshService.revalidateIfStale();
+            if (!refreshService.isReady()) {
+                return dataNotReadyResponse();
             }
 
-            if (foundProject == null) {
-                return ToolResponse.error("Project '" + projectName + "' not found in CNCF Landscape");
-            }
-
-            // Format project details
-            StringBuilder output = new StringBuilder();
-            output.append("## ").append(foundProject.name()).append("\n\n");
+            // Look up the project by name, id or repository slug
+            LandscapeSnapshot snapshot = refreshService.getSnapshot();
+            ProjectLookup lookup = snapshot.projectLookup();
+            CncfProject foundProject = lookup.find(projectName).orElse(null);
 
-            output.append("**Category:** ").append(foundProject.category()).append("\n");
-            if (foundProject.subcategory() != null && !foundProject.subcategory().isEmpty()) {
-                output.append("**Subcategory:** ").append(foundProject.subcategory()).append("\n");
+            if (foundProject == null) {
+                List<String> suggestions = lookup.suggest(projectName, MAX_SUGGESTIONS);
+                String message = "Project '" + projectName + "' not found in CNCF Landscape";
+                if (!suggestions.isEmpty()) {
+                    message += ". Did you mean: " + String.join(", ", suggestions) + "?";
+                }
+                return ToolResponse.error(message);
             }
 
-            output.append("**Description:** ").append(foundProject.description()).append("\n");
-            output.append("**Maturity Level:** ").append(foundProject.maturity()).append("\n");
-            output.append("**Quality Rating:** ").append(foundProject.getQualityRating()).append("\n");
+            // Format project details from the memoised fragments; maintenance status depends on the current time
+            ProjectMarkdown.Detail detail = projectMarkdown(snapshot).detail(foundProject);
+            String output = foundProject.metadata() == null
+                ? detail.head() + detail.tail()
+                : detail.head() + "**Actively Maintained:** " + (foundProject.metadata().isActivelyMaintained(Instant.now()) ? "Yes" : "No") + "\n" + detail.tail();
 
-            if (foundProject.metadata() != null) {
-                var metadata = foundProject.metadata();
-                output.append("**Stars:** ").append(String.format("%.0f", metadata.stars())).append("\n");
-                output.append("**Forks:** ").append(String.format("%.0f", metadata.forks())).append("\n");
-                output.append("**Contributors:** ").append(metadata.contributorCount()).append("\n");
+            return ToolResponse.success(List.of(new TextContent(output)));
 
-                if (metadata.latestVersion() != null && !metadata.latestVersion().isEmpty()) {
-                    output.append("**Latest Version:** ").append(metadata.latestVersion()).append("\n");
-                }
-
-                if (metadata.license() != null && !metadata.license().isEmpty()) {
-                    output.append("**License:** ").append(metadata.license()).append("\n");
-                }
+        } catch (Exception e) {
+            return ErrorHandler.createErrorResponse("get_cncf_project", e);
+        }
+    }
 
-                output.append("**Actively Maintained:** ").append(metadata.isActivelyMaintained() ? "Yes" : "No").append("\n");
+    /**
+     * List all CNCF categories, or drill into a single category.
+     */
+    @Tool(name = "list_cncf_categories", description = "List all available CNCF project categories, or show the subcategory and maturity breakdown of one category")
+    public ToolResponse listCncfCategories(
+            @ToolArg(description = "Category to drill into (optional)", required = false) String category) {
+        try {
+            // Serve cached data; stale data triggers a background refresh
+            refreshService.revalidateIfStale();
+            if (!refreshService.isReady()) {
+                return dataNotReadyResponse();
             }
 
-            if (foundProject.homepageUrl() != null && !foundProject.homepageUrl().isEmpty()) {
-                output.append("**Homepage:** ").append(foundProject.homepageUrl()).append("\n");
-            }
+            LandscapeSnapshot snapshot = refreshService.getSnapshot();
+            CategoryMarkdown rendered = categoryMarkdown(snapshot);
 
-            if (foundProject.repoUrl() != null && !foundProject.repoUrl().isEmpty()) {
-                output.append("**Repository:** ").append(foundProject.repoUrl()).append("\n");
+            if (category == null || category.isBlank()) {
+                return ToolResponse.success(List.of(new TextContent(rendered.overview())));
             }
 
-            if (foundProject.tags() != null && !foundProject.tags().isEmpty()) {
-                output.append("**Tags:** ").append(String.join(", ", foundProject.tags())).append("\n");
+            var stats = snapshot.categoryAggregates().find(category);
+            if (stats.isEmpty()) {
+                return ToolResponse.error("Category '" + category + "' not found. Use list_cncf_categories without arguments to see all categories.");
             }
-
-            return ToolResponse.success(List.of(new TextContent(output.toString())));
+            String markdown = rendered.drillDowns().computeIfAbsent(stats.get().name(),
+                name -> renderCategoryDrillDown(stats.get()));
+            return ToolResponse.success(List.of(new TextContent(markdown)));
 
         } catch (Exception e) {
-            return ErrorHandler.createErrorResponse("get_cncf_project", e);
+            return ErrorHandler.createErrorResponse("list_cncf_categories", e);
         }
     }
 
     /**
-     * List all CNCF categories.
+     * Show what the last data refresh added, removed and changed.
      */
-    @Tool(name = "list_cncf_categories", description = "List all available CNCF project categories")
-    public ToolResponse listCncfCategories() {
+    @Tool(name = "get_cncf_changes", description = "Show which CNCF projects were added, removed or changed by the last data refresh")
+    public ToolResponse getCncfChanges() {
         try {
-            // Ensure data is fresh
-            refreshService.refreshData();
+            if (!refreshService.isReady()) {
+                return dataNotReadyResponse();
+            }
 
-            // Get projects and extract categories
-            List<CncfProject> projects = refreshService.getCurrentProjects();
-            Map<String, Integer> categoryCounts = new java.util.HashMap<>();
+            LandscapeSnapshot snapshot = refreshService.getSnapshot();
+            ChangeLog changes = snapshot.changes();
+            StringBuilder output = new StringBuilder(1024);
+            output.append("## CNCF Landscape Changes\n\n");
+            output.append("Data refreshed: ").append(snapshot.refreshedAt()).append("\n");
 
-            for (CncfProject project : projects) {
-                categoryCounts.merge(project.category(), 1, Integer::sum);
+            if (changes.isInitial()) {
+                output.append("\nThis is the first snapshot loaded since startup (").append(snapshot.projectCount())
+                    .append(" projects); there is no earlier data to compare with.\n");
+                return ToolResponse.success(List.of(new TextContent(output.toString())));
             }
 
-            // Format categories
-            StringBuilder output = new StringBuilder();
-            output.append("## CNCF Project Categories\n\n");
-            output.append("Total projects: ").append(projects.size()).append("\n\n");
+            output.append("Added: ").append(changes.added().size())
+                .append(", removed: ").append(changes.removed().size())
+                .append(", changed: ").append(changes.changed().size())
+                .append(", unchanged: ").append(changes.unchanged()).append("\n");
 
-            categoryCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .forEach(entry -> output
-                    .append("- **").append(entry.getKey()).append("** (").append(entry.getValue()).append(" projects)\n"));
+            if (!changes.added().isEmpty()) {
+                output.append("\n### Added\n\n");
+                appendProjects(output, changes.added());
+            }
+            if (!changes.removed().isEmpty()) {
+                output.append("\n### Removed\n\n");
+                appendProjects(output, changes.removed());
+            }
+            if (!changes.changed().isEmpty()) {
+                output.append("\n### Changed\n\n");
+                List<ChangeLog.Change> changed = changes.changed();
+                for (int i = 0; i < Math.min(changed.size(), MAX_CHANGES_LISTED); i++) {
+                    ChangeLog.Change change = changed.get(i);
+                    output.append("- **").append(change.after().name()).append("**: ")
+                        .append(String.join(", ", change.changedFields())).append("\n");
+                }
+                appendMore(output, changed.size());
+            }
 
             return ToolResponse.success(List.of(new TextContent(output.toString())));
 
         } catch (Exception e) {
-            return ErrorHandler.createErrorResponse("list_cncf_categories", e);
+            return ErrorHandler.createErrorResponse("get_cncf_changes", e);
         }
     }
 
@@ -220,92 +278,269 @@ public class CncfTool {
      * Refresh CNCF data from the landscape API.
      */
     @Tool(name = "refresh_cncf_data", description = "Refresh CNCF project data from the landscape API")
-    public CompletableFuture<ToolResponse> refreshCncfData() {
-        return refreshService.refreshDataAsync()
-            .thenApply(success -> {
+    public Uni<ToolResponse> refreshCncfData() {
+        // Concurrent calls join the refresh already in flight; the response waits for it without blocking a thread
+        return Uni.createFrom().completionStage(refreshService::refreshDataAsync)
+            .map(success -> {
                 if (success) {
                     var stats = refreshService.getStatistics();
                     String message = "CNCF data refreshed successfully!\n" +
                         "Projects: " + stats.get("projectCount") + "\n" +
                         "Last refresh: " + stats.get("lastRefresh") + "\n" +
-                        "Data fresh: " + stats.get("dataFresh");
+                        "Data fresh: " + stats.get("dataFresh") + "\n" +
+                        "Refreshes: " + stats.get("refreshesStarted") + " started, " +
+                        stats.get("coalescedCallers") + " callers coalesced\n" +
+                        "Search cache: " + searchResultCache.getHits() + " hits, " +
+                        searchResultCache.getMisses() + " misses, " +
+                        searchResultCache.getEvictions() + " evictions";
                     return ToolResponse.success(List.of(new TextContent(message)));
+                } else if (refreshService.isReady() && refreshService.getLastError() == null) {
+                    return ToolResponse.success(List.of(new TextContent(
+                        "CNCF data is already up to date (no changes since the last refresh).\n" +
+                        "Last refresh: " + refreshService.getLastRefresh())));
                 } else {
                     String error = refreshService.getLastError();
                     return ToolResponse.error("Failed to refresh CNCF data: " + (error != null ? error : "Unknown error"));
                 }
             })
-            .exceptionally(throwable -> ErrorHandler.createErrorResponse("refresh_cncf_data", throwable));
+            .onFailure().recoverWithItem(throwable -> ErrorHandler.createErrorResponse("refresh_cncf_data", throwable));
     }
 
     /**
-     * Simple search implementation.
+     * Show data, refresh, cache and tool latency statistics; the stdio counterpart of the metrics endpoint.
      */
-    private List<SearchResult> performSearch(List<CncfProject> projects, SearchQuery query) {
-        List<SearchResult> results = new ArrayList<>();
-
-        for (CncfProject project : projects) {
-            double score = 0.0;
-            String matchedField = "";
+    @Tool(name = "server_stats", description = "Show server statistics: data freshness, last refresh timings, search cache and per-tool call latencies")
+    public ToolResponse serverStats() {
+        try {
+            LandscapeSnapshot snapshot = refreshService.getSnapshot();
+            StringBuilder output = new StringBuilder(2048);
+            output.append("## Server Statistics\n\n");
+
+            output.append("### Data\n\n");
+            output.append("State: ").append(refreshService.getState()).append("\n");
+            output.append("Snapshot version: ").append(snapshot.version())
+                .append(", projects: ").append(snapshot.projectCount())
+                .append(", categories: ").append(snapshot.categoryAggregates().categories().size()).append("\n");
+            output.append("Last refresh: ").append(refreshService.getLastRefresh())
+                .append(" (fresh: ").append(refreshService.isDataFresh()).append(")\n");
+            output.append("Refreshes: ").append(refreshService.getRefreshesStarted()).append(" started, ")
+                .append(refreshService.getCoalescedCallers()).append(" callers coalesced\n");
+            if (refreshService.getLastError() != null) {
+                output.append("Last error: ").append(refreshService.getLastError())
+                    .append(" at ").append(refreshService.getLastErrorTime()).append("\n");
+            }
 
-            if (query.keyword() != null && !query.keyword().isEmpty()) {
-                String keyword = query.keyword().toLowerCase();
+            RefreshBreakdown breakdown = refreshService.getLastBreakdown();
+            if (breakdown != null) {
+                output.append("\n### Last Download\n\n");
+                output.append("Completed: ").append(breakdown.completedAt()).append("\n");
+                output.append("Size: ").append(breakdown.bytes()).append(" bytes\n");
+                output.append("Download: ").append(breakdown.download().toMillis()).append(" ms, parse: ")
+                    .append(breakdown.parse().toMillis()).append(" ms, index: ")
+                    .append(breakdown.index().toMillis()).append(" ms\n");
+                output.append("Items: ").append(breakdown.itemsRead()).append(" read, ")
+                    .append(breakdown.itemsDropped()).append(" dropped\n");
+            }
 
-                // Name matching (highest weight)
-                if (project.name().toLowerCase().contains(keyword)) {
-                    score += 40;
-                    matchedField = "name";
+            appendValidation(output, snapshot.validation());
+
+            long hits = searchResultCache.getHits();
+            long lookups = hits + searchResultCache.getMisses();
+            output.append("\n### Search Cache\n\n");
+            output.append("Entries: ").append(searchResultCache.getSize()).append("\n");
+            output.append("Hits: ").append(hits).append(", misses: ").append(searchResultCache.getMisses())
+                .append(", evictions: ").append(searchResultCache.getEvictions())
+                .append(", hit rate: ").append(lookups > 0 ? hits * 100 / lookups : 0).append("%\n");
+
+            output.append("\n### Tool Calls\n\n");
+            List<Timer> timers = meterRegistry.find(ToolMetricsInterceptor.TOOL_CALLS).timers().stream()
+                .filter(timer -> timer.count() > 0)
+                .sorted(Comparator.comparing((Timer timer) -> timer.getId().getTag("tool"))
+                    .thenComparing(timer -> timer.getId().getTag("outcome")))
+                .toList();
+            if (timers.isEmpty()) {
+                output.append("No tool calls recorded yet.\n");
+            } else {
+                output.append("| Tool | Outcome | Calls | Mean ms | p50 ms | p95 ms | p99 ms | Max ms |\n");
+                output.append("|------|---------|-------|---------|--------|--------|--------|--------|\n");
+                for (Timer timer : timers) {
+                    HistogramSnapshot histogram = timer.takeSnapshot();
+                    output.append("| ").append(timer.getId().getTag("tool"))
+                        .append(" | ").append(timer.getId().getTag("outcome"))
+                        .append(" | ").append(histogram.count())
+                        .append(" | ").append(millis(histogram.mean(TimeUnit.MILLISECONDS)));
+                    // Percentiles come from histogram buckets and may round above the exact maximum
+                    for (ValueAtPercentile percentile : histogram.percentileValues()) {
+                        output.append(" | ").append(millis(Math.min(percentile.value(TimeUnit.MILLISECONDS),
+                            histogram.max(TimeUnit.MILLISECONDS))));
+                    }
+                    output.append(" | ").append(millis(histogram.max(TimeUnit.MILLISECONDS))).append(" |\n");
                 }
+                output.append("\nPercentiles cover the last few minutes; counts, mean and max cover the process lifetime.\n");
+            }
 
-                // Description matching
-                if (project.description() != null &&
-                    project.description().toLowerCase().contains(keyword)) {
-                    score += 25;
-                    if (matchedField.isEmpty()) matchedField = "description";
-                }
+            return ToolResponse.success(List.of(new TextContent(output.toString())));
 
-                // Category matching
-                if (project.category().toLowerCase().contains(keyword)) {
-                    score += 20;
-                    if (matchedField.isEmpty()) matchedField = "category";
-                }
+        } catch (Exception e) {
+            return ErrorHandler.createErrorResponse("server_stats", e);
+        }
+    }
 
-                // Tag matching
-                if (project.tags() != null) {
-                    long tagMatches = project.tags().stream()
-                        .filter(tag -> tag.toLowerCase().contains(keyword))
-                        .count();
-                    score += tagMatches * 10;
-                    if (matchedField.isEmpty() && tagMatches > 0) matchedField = "tags";
-                }
-            }
+    /**
+     * Gets the project fragment cache of the snapshot, starting an empty one for each new snapshot version.
+     */
+    private ProjectMarkdown projectMarkdown(LandscapeSnapshot snapshot) {
+        ProjectMarkdown cached = projectMarkdown.get();
+        if (cached != null && cached.version() == snapshot.version()) {
+            return cached;
+        }
+        ProjectMarkdown markdown = ProjectMarkdown.of(snapshot, cached);
+        projectMarkdown.set(markdown);
+        return markdown;
+    }
 
-            // Category filter
-            if (query.category() != null && !query.category().isEmpty() &&
-                project.category().equalsIgnoreCase(query.category())) {
-                score += 30;
-                if (matchedField.isEmpty()) matchedField = "category";
-            }
+    /**
+     * Gets the category markdown of the snapshot, rendering the overview once per snapshot version.
+     */
+    private CategoryMarkdown categoryMarkdown(LandscapeSnapshot snapshot) {
+        CategoryMarkdown cached = categoryMarkdown.get();
+        if (cached != null && cached.version() == snapshot.version()) {
+            return cached;
+        }
+        CategoryMarkdown rendered = new CategoryMarkdown(snapshot.version(),
+            renderCategoryOverview(snapshot.categoryAggregates()), new ConcurrentHashMap<>());
+        categoryMarkdown.set(rendered);
+        return rendered;
+    }
+
+    private static String renderCategoryOverview(CategoryAggregates aggregates) {
+        StringBuilder output = new StringBuilder();
+        output.append("## CNCF Project Categories\n\n");
+        output.append("Total projects: ").append(aggregates.totalProjects()).append("\n\n");
+
+        for (CategoryAggregates.CategoryStats stats : aggregates.categories()) {
+            output.append("- **").append(stats.name()).append("** (").append(stats.projectCount()).append(" projects)\n");
+        }
+
+        output.append("\n### By Maturity\n\n");
+        appendCounts(output, aggregates.maturities());
+        return output.toString();
+    }
+
+    private static String renderCategoryDrillDown(CategoryAggregates.CategoryStats stats) {
+        StringBuilder output = new StringBuilder();
+        output.append("## CNCF Category: ").append(stats.name()).append("\n\n");
+        output.append("Total projects: ").append(stats.projectCount()).append("\n\n");
+
+        output.append("### Subcategories\n\n");
+        appendCounts(output, stats.subcategories());
 
-            // Popularity boost
-            if (project.isPopular()) {
-                score += 15;
+        output.append("\n### By Maturity\n\n");
+        appendCounts(output, stats.maturities());
+        return output.toString();
+    }
+
+    private static void appendFacets(StringBuilder output, int matchCount, Map<FacetIndex.Facet, List<CategoryAggregates.Count>> facets) {
+        output.append("## Facets\n\n");
+        output.append("Matching projects: ").append(matchCount).append("\n");
+        facets.forEach((facet, counts) -> {
+            output.append("\n### By ").append(facet.label()).append("\n\n");
+            appendCounts(output, counts);
+        });
+    }
+
+    private static void appendProjects(StringBuilder output, List<CncfProject> projects) {
+        for (int i = 0; i < Math.min(projects.size(), MAX_CHANGES_LISTED); i++) {
+            CncfProject project = projects.get(i);
+            output.append("- **").append(project.name()).append("** (").append(project.category());
+            if (project.maturity() != null && !project.maturity().isEmpty()) {
+                output.append(", ").append(project.maturity());
             }
+            output.append(")\n");
+        }
+        appendMore(output, projects.size());
+    }
+
+    private static void appendMore(StringBuilder output, int total) {
+        if (total > MAX_CHANGES_LISTED) {
+            output.append("- ... and ").append(total - MAX_CHANGES_LISTED).append(" more\n");
+        }
+    }
 
-            // Graduation boost
-            if (project.isGraduated()) {
-                score += 10;
+    private static void appendValidation(StringBuilder output, ValidationReport validation) {
+        output.append("\n### Data Quality\n\n");
+        if (!validation.isAvailable()) {
+            output.append("No validation report: no landscape data has been loaded yet.\n");
+            return;
+        }
+        output.append("Items: ").append(validation.itemsRead()).append(" read, ")
+            .append(validation.projects()).append(" accepted, ")
+            .append(validation.itemsDropped()).append(" dropped\n");
+
+        appendFailures(output, "Rejected items", validation.failures(true));
+        appendFailures(output, "Ignored values", validation.failures(false));
+
+        if (!validation.absentFields().isEmpty()) {
+            output.append("\nMissing values of accepted projects:\n");
+            for (ValidationReport.Field field : validation.absentFields().keySet()) {
+                output.append("- ").append(field.jsonName()).append(": ")
+                    .append(validation.absentFields().get(field)).append(" (")
+                    .append(String.format(Locale.ROOT, "%.1f", validation.absentRate(field) * 100)).append("%)\n");
             }
+        }
+    }
 
-            if (score > 0) {
-                results.add(new SearchResult(project, Math.min(score, 100.0), matchedField, query));
+    private static void appendFailures(StringBuilder output, String heading,
+                                       Map<ValidationReport.Failure, ValidationReport.FailureStats> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        output.append("\n").append(heading).append(":\n");
+        failures.forEach((failure, stats) -> {
+            output.append("- **").append(failure.label()).append("**: ").append(stats.count());
+            if (!stats.samples().isEmpty()) {
+                output.append(" (").append(String.join("; ", stats.samples()));
+                output.append(stats.count() > stats.samples().size() ? "; ...)" : ")");
             }
+            output.append("\n");
+        });
+    }
+
+    private static String millis(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static void appendCounts(StringBuilder output, List<CategoryAggregates.Count> counts) {
+        for (CategoryAggregates.Count count : counts) {
+            output.append("- **").append(count.name()).append("** (").append(count.count()).append(" projects)\n");
+        }
+    }
+
+    /**
+     * Parses the sort argument case-insensitively; blank means relevance.
+     *
+     * @return Sort order, or null if the value is not one
+     */
+    private static SortOrder parseSortOrder(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return SortOrder.RELEVANCE;
+        }
+        try {
+            return SortOrder.valueOf(sort.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
         }
+    }
 
-        // Sort by relevance score and limit results
-        results.sort((a, b) -> Double.compare(b.relevanceScore(), a.relevanceScore()));
-        return results.stream()
-            .limit(query.limit())
-            .toList();
+    /**
+     * Response returned while no landscape data has been loaded yet.
+     */
+    private ToolResponse dataNotReadyResponse() {
+        if (refreshService.getState() == CncfDataRefreshService.DataState.UNAVAILABLE) {
+            String error = refreshService.getLastError();
+            return ToolResponse.error("CNCF landscape data is currently unavailable: " +
+                (error != null ? error : "Unknown error") + ". A retry is scheduled in the background.");
+        }
+        return ToolResponse.error("CNCF landscape data is still warming up. Please try again in a few seconds.");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,231 @@
+package io.mcp.cncf.tool;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.model.CncfModel.ProjectMetadata;
+import io.mcp.cncf.model.CncfModel.SortOrder;
+import io.mcp.cncf.service.LandscapeSnapshot;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Markdown fragments of the projects of one snapshot.
+ *
+ * <p>A project's search card and detail view only change with the snapshot, so
+ * each is rendered on first use and then reused until the next snapshot. The only
+ * time-dependent line, "Actively Maintained", is left out of the memoised detail
+ * fragments and rendered per call. A refresh reuses the instances of unchanged
+ * projects, so their fragments are carried over from the previous snapshot's
+ * cache instead of being rendered again. Fragments are immutable and rendering is
+ * idempotent, so concurrent first uses may render the same fragment twice but
+ * never observe a partial one.</p>
+ */
+final class ProjectMarkdown {
+
+    /**
+     * Detail view split around the per-call "Actively Maintained" line.
+     *
+     * @param head Markdown before the line
+     * @param tail Markdown after the line
+     */
+    record Detail(String head, String tail) {
+    }
+
+    private final long version;
+    private final Map<CncfProject, Integer> ordinals;
+    private final String[] cards;
+    private final Detail[] details;
+
+    private ProjectMarkdown(long version, List<CncfProject> projects) {
+        this.version = version;
+        this.ordinals = new IdentityHashMap<>(projects.size());
+        for (int ordinal = 0; ordinal < projects.size(); ordinal++) {
+            ordinals.put(projects.get(ordinal), ordinal);
+        }
+        this.cards = new String[projects.size()];
+        this.details = new Detail[projects.size()];
+    }
+
+    /**
+     * Creates an empty fragment cache for the snapshot.
+     */
+    static ProjectMarkdown of(LandscapeSnapshot snapshot) {
+        return new ProjectMarkdown(snapshot.version(), snapshot.projects());
+    }
+
+    /**
+     * Creates the fragment cache for the snapshot, keeping the fragments already
+     * rendered for projects it shares with the previous cache.
+     *
+     * @param snapshot Snapshot to render
+     * @param previous Cache of an earlier snapshot, or null
+     * @return New fragment cache
+     */
+    static ProjectMarkdown of(LandscapeSnapshot snapshot, ProjectMarkdown previous) {
+        ProjectMarkdown markdown = of(snapshot);
+        if (previous != null) {
+            List<CncfProject> projects = snapshot.projects();
+            for (int ordinal = 0; ordinal < projects.size(); ordinal++) {
+                Integer old = previous.ordinals.get(projects.get(ordinal));
+                if (old != null) {
+                    markdown.cards[ordinal] = previous.cards[old];
+                    markdown.details[ordinal] = previous.details[old];
+                }
+            }
+        }
+        return markdown;
+    }
+
+    long version() {
+        return version;
+    }
+
+    /**
+     * Search result card of the project, without the score line.
+     */
+    String card(CncfProject project) {
+        Integer ordinal = ordinals.get(project);
+        if (ordinal == null) {
+            return renderCard(project);
+        }
+        String card = cards[ordinal];
+        if (card == null) {
+            card = renderCard(project);
+            cards[ordinal] = card;
+        }
+        return card;
+    }
+
+    /**
+     * Detail view of the project, without the "Actively Maintained" line.
+     */
+    Detail detail(CncfProject project) {
+        Integer ordinal = ordinals.get(project);
+        if (ordinal == null) {
+            return renderDetail(project);
+        }
+        Detail detail = details[ordinal];
+        if (detail == null) {
+            detail = renderDetail(project);
+            details[ordinal] = detail;
+        }
+        return detail;
+    }
+
+    private static String renderCard(CncfProject project) {
+        StringBuilder output = new StringBuilder(256);
+        output.append("### ").append(project.name()).append("\n");
+        output.append("**Category:** ").append(project.category()).append("\n");
+
+        if (hasText(project.subcategory())) {
+            output.append("**Subcategory:** ").append(project.subcategory()).append("\n");
+        }
+
+        if (hasText(project.description())) {
+            output.append("**Description:** ").append(project.description()).append("\n");
+        }
+
+        output.append("**Maturity:** ").append(project.maturity()).append("\n");
+        output.append("**Quality Rating:** ").append(project.getQualityRating()).append("\n");
+
+        if (hasText(project.homepageUrl())) {
+            output.append("**Homepage:** ").append(project.homepageUrl()).append("\n");
+        }
+
+        if (hasText(project.repoUrl())) {
+            output.append("**Repository:** ").append(project.repoUrl()).append("\n");
+        }
+        return output.toString();
+    }
+
+    private static Detail renderDetail(CncfProject project) {
+        StringBuilder output = new StringBuilder(512);
+        output.append("## ").append(project.name()).append("\n\n");
+
+        output.append("**Category:** ").append(project.category()).append("\n");
+        if (hasText(project.subcategory())) {
+            output.append("**Subcategory:** ").append(project.subcategory()).append("\n");
+        }
+
+        output.append("**Description:** ").append(project.description()).append("\n");
+        output.append("**Maturity Level:** ").append(project.maturity()).append("\n");
+        output.append("**Quality Rating:** ").append(project.getQualityRating()).append("\n");
+
+        ProjectMetadata metadata = project.metadata();
+        if (metadata != null) {
+            output.append("**Stars:** ").append(metadata.stars()).append("\n");
+            output.append("**Forks:** ").append(metadata.forks()).append("\n");
+            output.append("**Contributors:** ").append(metadata.contributorCount()).append("\n");
+
+            if (metadata.lastCommitDate() != null) {
+                appendDate(output.append("**Last Commit:** "), metadata.lastCommitDate()).append("\n");
+            }
+
+            if (hasText(metadata.latestVersion())) {
+                output.append("**Latest Version:** ").append(metadata.latestVersion()).append("\n");
+            }
+
+            if (hasText(metadata.license())) {
+                output.append("**License:** ").append(metadata.license()).append("\n");
+            }
+        }
+        String head = output.toString();
+        output.setLength(0);
+
+        if (hasText(project.homepageUrl())) {
+            output.append("**Homepage:** ").append(project.homepageUrl()).append("\n");
+        }
+
+        if (hasText(project.repoUrl())) {
+            output.append("**Repository:** ").append(project.repoUrl()).append("\n");
+        }
+
+        if (project.tags() != null && !project.tags().isEmpty()) {
+            output.append("**Tags:** ").append(String.join(", ", project.tags())).append("\n");
+        }
+        return new Detail(head, output.toString());
+    }
+
+    /**
+     * Appends a relevance score with one decimal, as {@code %.1f} would format it.
+     */
+    static StringBuilder appendScore(StringBuilder output, double score) {
+        long tenths = Math.round(score * 10);
+        return output.append(tenths / 10).append('.').append(tenths % 10);
+    }
+
+    /**
+     * Appends the metric a non-relevance sort orders by, so the order is visible in the results.
+     */
+    static StringBuilder appendSortMetric(StringBuilder output, CncfProject project, SortOrder order) {
+        ProjectMetadata metadata = project.metadata();
+        switch (order) {
+            case STARS -> output.append("**Stars:** ").append(metadata != null ? metadata.stars() : 0).append("\n");
+            case CONTRIBUTORS -> output.append("**Contributors:** ").append(metadata != null ? metadata.contributorCount() : 0).append("\n");
+            case RECENCY -> {
+                output.append("**Last Commit:** ");
+                if (metadata != null && metadata.lastCommitDate() != null) {
+                    appendDate(output, metadata.lastCommitDate());
+                } else {
+                    output.append("unknown");
+                }
+                output.append("\n");
+            }
+            case RELEVANCE -> {
+            }
+        }
+        return output;
+    }
+
+    private static StringBuilder appendDate(StringBuilder output, Instant time) {
+        return output.append(LocalDate.ofInstant(time, ZoneOffset.UTC));
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
@@ -0,0 +1,96 @@
+package io.mcp.cncf.tool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkiverse.mcp.server.Tool;
+import io.quarkiverse.mcp.server.ToolResponse;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times MCP tool calls into the {@value #TOOL_CALLS} timer, tagged by tool name and outcome.
+ *
+ * <p>Outcomes are {@code success}, {@code error} for an error response and
+ * {@code exception} for a thrown exception. The timers of a tool are looked up once
+ * and then reused, so a call costs two clock reads and one histogram update. Timers
+ * publish a percentile histogram for Prometheus and p50/p95/p99 for
+ * {@code server_stats}. Calls returning a {@link Uni} are timed until it completes.
+ * Methods without {@link Tool} are not timed.</p>
+ */
+@MeteredTool
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class ToolMetricsInterceptor {
+
+    /** Name of the tool call timer. */
+    public static final String TOOL_CALLS = "cncf.tool.calls";
+
+    /**
+     * Timers of one tool, one per outcome.
+     */
+    private record ToolTimers(Timer success, Timer error, Timer exception) {
+
+        Timer of(Object result) {
+            return result instanceof ToolResponse response && response.isError() ? error : success;
+        }
+    }
+
+    private static final ToolTimers UNTIMED = new ToolTimers(null, null, null);
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final Map<Method, ToolTimers> timers = new ConcurrentHashMap<>();
+
+    @AroundInvoke
+    Object timeToolCall(InvocationContext context) throws Exception {
+        ToolTimers toolTimers = timers.computeIfAbsent(context.getMethod(), this::timersOf);
+        if (toolTimers == UNTIMED) {
+            return context.proceed();
+        }
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = context.proceed();
+        } catch (Exception e) {
+            toolTimers.exception().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        if (result instanceof Uni<?> uni) {
+            return uni.onItemOrFailure().invoke((item, failure) ->
+                (failure != null ? toolTimers.exception() : toolTimers.of(item))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        }
+        toolTimers.of(result).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private ToolTimers timersOf(Method method) {
+        Tool tool = method.getAnnotation(Tool.class);
+        if (tool == null) {
+            return UNTIMED;
+        }
+        String name = Tool.ELEMENT_NAME.equals(tool.name()) ? method.getName() : tool.name();
+        return new ToolTimers(timer(name, "success"), timer(name, "error"), timer(name, "exception"));
+    }
+
+    private Timer timer(String tool, String outcome) {
+        return Timer.builder(TOOL_CALLS)
+            .description("MCP tool call latency")
+            .tag("tool", tool)
+            .tag("outcome", outcome)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,235 @@
+package io.mcp.cncf.benchmark;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.service.LandscapeParser;
+import io.mcp.cncf.service.LandscapeSnapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Landscape data shared by the tests and benchmarks.
+ *
+ * <p>By default a deterministic synthetic full.json is generated that mirrors the
+ * shape and size of the real landscape file (categories, subcategories, maturity
+ * mix, GitHub data, the odd malformed item). A captured copy of the real file can
+ * be used instead with {@code -Dcncf.fixture=/path/to/full.json}; the number of
+ * generated projects is set with {@code -Dcncf.fixture.projects}.</p>
+ *
+ * <p>{@link #malformedJson()} is the same document with every
+ * {@value #MALFORMED_EVERY}th item broken in one of the ways ingestion has to
+ * report: not an object, no id or name, no name, no category, a malformed commit
+ * timestamp.</p>
+ */
+public final class LandscapeFixture {
+
+    private static final long SEED = 0x434E4346L;
+    private static final int MALFORMED_EVERY = 8;
+
+    private static final String[] CATEGORIES = {
+        "App Definition and Development", "Orchestration & Management", "Runtime", "Provisioning",
+        "Observability and Analysis", "Platform", "Serverless", "Security & Compliance"
+    };
+    private static final String[] SUBCATEGORIES = {
+        "Application Definition & Image Build", "Continuous Integration & Delivery", "Database",
+        "Streaming & Messaging", "Scheduling & Orchestration", "Coordination & Service Discovery",
+        "Service Mesh", "API Gateway", "Cloud Native Storage", "Container Runtime", "Cloud Native Network",
+        "Monitoring", "Logging", "Tracing", "Chaos Engineering", "Key Management", "Automation & Configuration"
+    };
+    private static final String[] MATURITIES = {"graduated", "incubating", "sandbox", null, null, null};
+    private static final String[] LICENSES = {"Apache-2.0", "MIT", "BSD-3-Clause", "MPL-2.0", "GPL-3.0"};
+    private static final String[] ORGANIZATIONS = {"CNCF", "Google", "Red Hat", "Microsoft", "VMware", "Amazon"};
+    private static final String[] WORDS = (
+        "kubernetes cloud native service mesh tracing logging metrics workflow stream data storage secure policy "
+        + "agent proxy gateway operator build deploy continuous delivery chaos edge serverless function queue "
+        + "cache container runtime registry network observability distributed scalable platform cluster "
+        + "configuration secrets identity certificate database event driven api management monitoring").split(" ");
+    private static final String[] WELL_KNOWN = {
+        "Kubernetes", "Prometheus", "Envoy", "Linkerd", "Istio", "Helm", "Argo", "Flux", "Jaeger", "Fluentd",
+        "containerd", "CoreDNS", "etcd", "Harbor", "Vitess", "cert-manager", "OpenTelemetry", "Falco"
+    };
+
+    private static byte[] json;
+    private static byte[] malformedJson;
+
+    private LandscapeFixture() {
+        // Utility class
+    }
+
+    /**
+     * Raw full.json bytes.
+     */
+    public static synchronized byte[] json() {
+        if (json == null) {
+            String fixture = System.getProperty("cncf.fixture");
+            try {
+                json = fixture != null
+                    ? Files.readAllBytes(Path.of(fixture))
+                    : generate(Integer.getInteger("cncf.fixture.projects", 2500), 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Generated full.json bytes with malformed items mixed in.
+     */
+    public static synchronized byte[] malformedJson() {
+        if (malformedJson == null) {
+            try {
+                malformedJson = generate(Integer.getInteger("cncf.fixture.projects", 2500), MALFORMED_EVERY);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return malformedJson;
+    }
+
+    /**
+     * Parsed projects of the fixture.
+     */
+    public static List<CncfProject> projects() {
+        try {
+            return new LandscapeParser(new ObjectMapper()).parse(new ByteArrayInputStream(json()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Snapshot built from the fixture, as published by the refresh service.
+     */
+    public static LandscapeSnapshot snapshot() {
+        return LandscapeSnapshot.build(1, projects(), Instant.now());
+    }
+
+    private static byte[] generate(int count, int malformedEvery) throws IOException {
+        SplittableRandom random = new SplittableRandom(SEED);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(count * 1024);
+        try (JsonGenerator generator = new JsonFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("categories");
+            for (String category : CATEGORIES) {
+                generator.writeStartObject();
+                generator.writeStringField("name", category);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("items");
+            for (int i = 0; i < count; i++) {
+                String name = i < WELL_KNOWN.length ? WELL_KNOWN[i] : capitalize(pick(random, WORDS)) + " " + pick(random, WORDS) + " " + i;
+                String slug = name.toLowerCase().replace(' ', '-');
+                if (malformedEvery > 0 && i % malformedEvery == malformedEvery - 1) {
+                    writeMalformed(generator, i / malformedEvery, name, slug);
+                    continue;
+                }
+                generator.writeStartObject();
+                generator.writeStringField("id", slug);
+                generator.writeStringField("name", name);
+                generator.writeStringField("description", sentence(random, 8 + random.nextInt(30)));
+                generator.writeStringField("category", pick(random, CATEGORIES));
+                generator.writeStringField("subcategory", pick(random, SUBCATEGORIES));
+                generator.writeStringField("homepage_url", "https://" + slug + ".io");
+                generator.writeStringField("repo_url", "https://github.com/" + slug + "/" + slug);
+                generator.writeStringField("logo_url", "logos/" + slug + ".svg");
+                generator.writeStringField("twitter_url", "https://twitter.com/" + slug);
+                generator.writeStringField("landscape", "cncf");
+                String maturity = pick(random, MATURITIES);
+                if (maturity != null) {
+                    generator.writeStringField("maturity", maturity);
+                    generator.writeStringField("acceptance_date", "20" + (15 + random.nextInt(10)) + "-0" + (1 + random.nextInt(9)) + "-15");
+                }
+                generator.writeStringField("oss", random.nextInt(10) < 8 ? "true" : "false");
+                generator.writeStringField("license", pick(random, LICENSES));
+                generator.writeStringField("organization", pick(random, ORGANIZATIONS));
+                generator.writeStringField("latest_version", "v" + random.nextInt(5) + "." + random.nextInt(30) + "." + random.nextInt(10));
+
+                generator.writeObjectFieldStart("github_data");
+                generator.writeNumberField("stars", random.nextInt(120_000));
+                generator.writeNumberField("forks", random.nextInt(40_000));
+                generator.writeNumberField("contributors", 1 + random.nextInt(3_500));
+                generator.writeStringField("last_commit_at", "2026-0" + (1 + random.nextInt(9)) + "-1" + random.nextInt(10) + "T10:00:00Z");
+                generator.writeStringField("first_commit_at", "201" + random.nextInt(10) + "-06-01T10:00:00Z");
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+
+            // Malformed items the parser has to skip
+            generator.writeStartObject();
+            generator.writeStringField("id", "no-category");
+            generator.writeStringField("name", "No Category");
+            generator.writeEndObject();
+            generator.writeString("not-an-object");
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeMalformed(JsonGenerator generator, int kind, String name, String slug) throws IOException {
+        switch (kind % 5) {
+            case 0 -> generator.writeString(slug);
+            case 1 -> {
+                generator.writeStartObject();
+                generator.writeStringField("description", "Item without id or name");
+                generator.writeEndObject();
+            }
+            case 2 -> {
+                generator.writeStartObject();
+                generator.writeStringField("id", slug);
+                generator.writeStringField("name", " ");
+                generator.writeStringField("category", CATEGORIES[0]);
+                generator.writeEndObject();
+            }
+            case 3 -> {
+                generator.writeStartObject();
+                generator.writeStringField("id", slug);
+                generator.writeStringField("name", name);
+                generator.writeNullField("category");
+                generator.writeEndObject();
+            }
+            default -> {
+                // Kept as a project, without the commit time
+                generator.writeStartObject();
+                generator.writeStringField("id", slug);
+                generator.writeStringField("name", name);
+                generator.writeStringField("category", CATEGORIES[1]);
+                generator.writeObjectFieldStart("github_data");
+                generator.writeStringField("last_commit_at", "last tuesday");
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+        }
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sentence.append(i == 0 ? capitalize(pick(random, WORDS)) : " " + pick(random, WORDS));
+        }
+        return sentence.append('.').toString();
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
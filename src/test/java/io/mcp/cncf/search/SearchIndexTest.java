@@ -0,0 +1,134 @@
+package io.mcp.cncf.search;
+
+import io.mcp.cncf.benchmark.LandscapeFixture;
+import io.mcp.cncf.config.SearchConstants;
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.model.CncfModel.SearchQuery;
+import io.mcp.cncf.model.CncfModel.SearchResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the indexed search against the linear scan it replaced, on the
+ * 2500-project fixture. Results have to agree in order, score and matched field.
+ */
+class SearchIndexTest {
+
+    private static final List<String> KEYWORDS = Arrays.asList(
+        null, "kubernetes", "Prometheus", "mesh", "Service Mesh", "ku", "graduated", "open-source",
+        "cncf", "secure policy", "runtime", "12", "no-such-project");
+    private static final List<String> CATEGORIES = Arrays.asList(
+        null, "", "Runtime", "observability and analysis", "Security & Compliance", "No Such Category");
+    private static final List<Integer> LIMITS = List.of(1, 10, SearchConstants.DEFAULT_SEARCH_LIMIT,
+        SearchConstants.MAX_SEARCH_RESULTS);
+
+    private static List<CncfProject> projects;
+    private static SearchIndex index;
+
+    @BeforeAll
+    static void setUp() {
+        projects = LandscapeFixture.projects();
+        index = SearchIndex.build(projects);
+    }
+
+    static Stream<Arguments> queries() {
+        List<Arguments> queries = new ArrayList<>();
+        for (String keyword : KEYWORDS) {
+            for (String category : CATEGORIES) {
+                for (int limit : LIMITS) {
+                    queries.add(Arguments.of(keyword, category, limit));
+                }
+            }
+        }
+        return queries.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("queries")
+    void searchMatchesLinearScan(String keyword, String category, int limit) {
+        SearchQuery query = new SearchQuery(keyword, category, null, null, limit);
+
+        assertEquals(describe(linearScan(projects, query)), describe(index.search(query)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("queries")
+    void deepRankingServesLimitAsPrefix(String keyword, String category, int limit) {
+        SearchQuery query = new SearchQuery(keyword, category, null, null, limit);
+        RankedResults ranked = index.rank(query, SearchConstants.MAX_SEARCH_RESULTS);
+
+        assertEquals(describe(linearScan(projects, query)), describe(ranked.toResults(projects, query)));
+    }
+
+    private static List<String> describe(List<SearchResult> results) {
+        return results.stream()
+            .map(result -> result.project().id() + " " + result.relevanceScore() + " " + result.matchedField())
+            .toList();
+    }
+
+    /**
+     * The search before indexing: every project scored in turn, then a stable sort.
+     */
+    private static List<SearchResult> linearScan(List<CncfProject> projects, SearchQuery query) {
+        List<SearchResult> results = new ArrayList<>();
+
+        for (CncfProject project : projects) {
+            double score = 0.0;
+            String matchedField = "";
+
+            if (query.keyword() != null && !query.keyword().isEmpty()) {
+                String keyword = query.keyword().toLowerCase();
+
+                if (project.name().toLowerCase().contains(keyword)) {
+                    score += 40;
+                    matchedField = "name";
+                }
+                if (project.description() != null && project.description().toLowerCase().contains(keyword)) {
+                    score += 25;
+                    if (matchedField.isEmpty()) matchedField = "description";
+                }
+                if (project.category().toLowerCase().contains(keyword)) {
+                    score += 20;
+                    if (matchedField.isEmpty()) matchedField = "category";
+                }
+                if (project.tags() != null) {
+                    long tagMatches = project.tags().stream()
+                        .filter(tag -> tag.toLowerCase().contains(keyword))
+                        .count();
+                    score += tagMatches * 10;
+                    if (matchedField.isEmpty() && tagMatches > 0) matchedField = "tags";
+                }
+            }
+
+            if (query.category() != null && !query.category().isEmpty()
+                && project.category().equalsIgnoreCase(query.category())) {
+                score += 30;
+                if (matchedField.isEmpty()) matchedField = "category";
+            }
+            if (project.isPopular()) {
+                score += 15;
+            }
+            if (project.isGraduated()) {
+                score += 10;
+            }
+
+            if (score > 0) {
+                results.add(new SearchResult(project, Math.min(score, 100.0), matchedField, query));
+            }
+        }
+
+        results.sort((a, b) -> Double.compare(b.relevanceScore(), a.relevanceScore()));
+        return results.stream()
+            .limit(query.limit())
+            .toList();
+    }
+}
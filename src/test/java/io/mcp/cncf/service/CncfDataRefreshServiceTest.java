@@ -0,0 +1,197 @@
+package io.mcp.cncf.service;
+
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.quarkus.test.common.WithTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Refreshes against a local {@link LandscapeStub}. The application, and with it the
+ * service state, is shared by all tests, so each test starts from a forced refresh
+ * with validators of its own.
+ */
+@QuarkusTest
+@WithTestResource(LandscapeStubResource.class)
+class CncfDataRefreshServiceTest {
+
+    private static final String LAST_MODIFIED = "Wed, 14 Oct 2026 07:28:00 GMT";
+    private static final AtomicInteger ETAGS = new AtomicInteger();
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Inject
+    CncfDataRefreshService refreshService;
+
+    LandscapeStub stub;
+
+    @Test
+    void fullDownloadStoresValidatorsAndSendsThemBack() {
+        String etag = nextEtag();
+        stub.serve(LandscapeStub.document("Envoy", "Linkerd"), etag, LAST_MODIFIED);
+        refreshService.forceRefresh();
+        assertEquals(200, stub.lastRequest().status());
+        assertEquals(List.of("Envoy", "Linkerd"), names(refreshService.getSnapshot()));
+
+        stub.clearRequests();
+        refreshService.refreshData();
+
+        assertEquals(List.of(new LandscapeStub.Request(etag, LAST_MODIFIED, 304)), stub.requests());
+    }
+
+    @Test
+    void notModifiedKeepsSnapshotWithoutParsing() {
+        stub.serve(LandscapeStub.document("Envoy", "Istio"), nextEtag(), LAST_MODIFIED);
+        refreshService.forceRefresh();
+        LandscapeSnapshot before = refreshService.getSnapshot();
+        RefreshBreakdown breakdown = refreshService.getLastBreakdown();
+
+        assertFalse(refreshService.refreshData());
+
+        assertEquals(304, stub.lastRequest().status());
+        assertSame(before, refreshService.getSnapshot());
+        // A breakdown is only recorded for a downloaded and parsed document
+        assertSame(breakdown, refreshService.getLastBreakdown());
+    }
+
+    @Test
+    void unchangedContentKeepsSnapshotInstance() {
+        byte[] document = LandscapeStub.document("Envoy", "Harbor");
+        stub.serve(document, nextEtag(), LAST_MODIFIED);
+        refreshService.forceRefresh();
+        LandscapeSnapshot before = refreshService.getSnapshot();
+
+        stub.serve(document, nextEtag(), LAST_MODIFIED);
+        assertFalse(refreshService.forceRefresh());
+
+        assertEquals(200, stub.lastRequest().status());
+        assertSame(before, refreshService.getSnapshot());
+    }
+
+    @Test
+    void unchangedProjectsWithOtherRejectedItemsPublishTheNewReport() {
+        String document = new String(LandscapeStub.document("Envoy", "Harbor"), StandardCharsets.UTF_8);
+        stub.serve(document.getBytes(StandardCharsets.UTF_8), nextEtag(), LAST_MODIFIED);
+        refreshService.forceRefresh();
+        LandscapeSnapshot before = refreshService.getSnapshot();
+
+        String withUnnamedItem = document.replace("]}", ",{\"id\":\"unnamed\",\"category\":\"Runtime\"}]}");
+        stub.serve(withUnnamedItem.getBytes(StandardCharsets.UTF_8), nextEtag(), LAST_MODIFIED);
+        assertFalse(refreshService.forceRefresh());
+
+        LandscapeSnapshot after = refreshService.getSnapshot();
+        assertEquals(before.version() + 1, after.version());
+        assertSame(before.projects(), after.projects());
+        assertSame(before.searchIndex(), after.searchIndex());
+        assertEquals(0, before.validation().itemsDropped());
+        assertEquals(1, after.validation().itemsDropped());
+        assertFalse(after.changes().hasChanges());
+    }
+
+    @Test
+    void emptyDocumentIsReportedAsAnError() {
+        stub.serve(LandscapeStub.document(), nextEtag(), LAST_MODIFIED);
+
+        assertFalse(refreshService.forceRefresh());
+
+        assertEquals("No projects found in CNCF Landscape data", refreshService.getLastError());
+        assertNotEquals(CncfDataRefreshService.DataState.WARMING, refreshService.getState());
+    }
+
+    @Test
+    void forceRefreshDropsValidators() {
+        stub.serve(LandscapeStub.document("Envoy", "Cilium"), nextEtag(), LAST_MODIFIED);
+        refreshService.forceRefresh();
+        stub.clearRequests();
+
+        refreshService.forceRefresh();
+
+        LandscapeStub.Request request = stub.lastRequest();
+        assertNull(request.ifNoneMatch());
+        assertNull(request.ifModifiedSince());
+        assertEquals(200, request.status());
+    }
+
+    @Test
+    void concurrentCallersShareOneFetch() throws Exception {
+        int callers = 8;
+        stub.serve(LandscapeStub.document("Envoy", "Falco"), nextEtag(), LAST_MODIFIED);
+        long versionBefore = refreshService.getSnapshot().version();
+        long startedBefore = refreshService.getRefreshesStarted();
+        long coalescedBefore = refreshService.getCoalescedCallers();
+        stub.clearRequests();
+        stub.hold();
+
+        List<LandscapeSnapshot> snapshots;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<LandscapeSnapshot>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                boolean force = i % 2 == 1;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    if (force) {
+                        refreshService.forceRefresh();
+                    } else {
+                        refreshService.refreshData();
+                    }
+                    return refreshService.getSnapshot();
+                }));
+            }
+            start.countDown();
+
+            // Keep the fetch in flight until every other caller has joined it
+            assertTrue(stub.awaitRequests(1, TIMEOUT));
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (refreshService.getCoalescedCallers() - coalescedBefore < callers - 1) {
+                assertTrue(System.nanoTime() < deadline, "Callers did not join the refresh in flight");
+                Thread.sleep(5);
+            }
+            stub.release();
+
+            snapshots = new ArrayList<>();
+            for (Future<LandscapeSnapshot> future : futures) {
+                snapshots.add(future.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+            }
+        } finally {
+            stub.release();
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, stub.requests().size());
+        assertEquals(1, refreshService.getRefreshesStarted() - startedBefore);
+        assertEquals(callers - 1, refreshService.getCoalescedCallers() - coalescedBefore);
+        LandscapeSnapshot published = snapshots.getFirst();
+        assertTrue(published.version() > versionBefore);
+        assertEquals(List.of("Envoy", "Falco"), names(published));
+        for (LandscapeSnapshot snapshot : snapshots) {
+            assertSame(published, snapshot);
+        }
+    }
+
+    private static String nextEtag() {
+        return "\"v" + ETAGS.incrementAndGet() + "\"";
+    }
+
+    private static List<String> names(LandscapeSnapshot snapshot) {
+        return snapshot.projects().stream().map(CncfProject::name).toList();
+    }
+}
@@ -0,0 +1,163 @@
+package io.mcp.cncf.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.mcp.cncf.benchmark.LandscapeFixture;
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.service.ValidationReport.Failure;
+import io.mcp.cncf.service.ValidationReport.Field;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LandscapeParserTest {
+
+    private static final String TWO_PROJECTS = """
+        {"items": [
+          {"id": "envoy", "name": "Envoy", "category": "Orchestration & Management", "subcategory": "Service Proxy",
+           "maturity": "graduated", "license": "Apache-2.0", "organization": "CNCF", "landscape": "cncf", "oss": "true"},
+          {"id": "linkerd", "name": "Linkerd", "category": "Orchestration & Management", "subcategory": "Service Proxy",
+           "maturity": "graduated", "license": "Apache-2.0", "organization": "CNCF", "landscape": "cncf", "oss": "true"}
+        ]}
+        """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void equalValuesShareOneInstance() throws IOException {
+        List<CncfProject> projects = new LandscapeParser(objectMapper)
+            .parse(new ByteArrayInputStream(TWO_PROJECTS.getBytes(StandardCharsets.UTF_8)));
+        CncfProject envoy = projects.get(0);
+        CncfProject linkerd = projects.get(1);
+
+        assertSame(envoy.category(), linkerd.category());
+        assertSame(envoy.subcategory(), linkerd.subcategory());
+        assertSame(envoy.maturity(), linkerd.maturity());
+        assertSame(envoy.tags(), linkerd.tags());
+        assertSame(envoy.metadata().license(), linkerd.metadata().license());
+        assertSame(envoy.metadata().organization(), linkerd.metadata().organization());
+        assertNotSame(envoy.name(), linkerd.name());
+    }
+
+    @Test
+    void maintainersAndCompaniesAreTheTags() throws IOException {
+        CncfProject envoy = new LandscapeParser(objectMapper)
+            .parse(new ByteArrayInputStream(TWO_PROJECTS.getBytes(StandardCharsets.UTF_8))).getFirst();
+
+        assertEquals(List.of("graduated", "orchestration-&-management", "cncf", "open-source", "cncf"), envoy.tags());
+        assertSame(envoy.tags(), envoy.metadata().maintainers());
+        assertSame(envoy.tags(), envoy.metadata().companies());
+    }
+
+    @Test
+    void malformedItemsAreCountedBySamplesInDocumentOrder() throws IOException {
+        LandscapeParser.Ingestion ingestion = new LandscapeParser(objectMapper)
+            .ingest(new ByteArrayInputStream(LandscapeFixture.malformedJson()));
+        ValidationReport report = ingestion.validation();
+
+        // One item in eight is broken, cycling through five kinds, plus two trailing bad items
+        assertEquals(2502, report.itemsRead());
+        assertEquals(2250, report.projects());
+        assertEquals(252, report.itemsDropped());
+        assertEquals(report.projects(), ingestion.projects().size());
+        assertEquals(Map.of(
+            Failure.NOT_AN_OBJECT, 64,
+            Failure.MISSING_ID, 63,
+            Failure.MISSING_NAME, 62,
+            Failure.MISSING_CATEGORY, 63,
+            Failure.INVALID_TIMESTAMP, 62), counts(report));
+        assertEquals(Set.of(Failure.NOT_AN_OBJECT, Failure.MISSING_ID, Failure.MISSING_NAME, Failure.MISSING_CATEGORY),
+            report.failures(true).keySet());
+        assertEquals(Set.of(Failure.INVALID_TIMESTAMP), report.failures(false).keySet());
+
+        assertEquals(List.of(7, 47, 87), sampledItems(report, Failure.NOT_AN_OBJECT));
+        assertEquals(List.of("item 15", "item 55", "item 95"), report.failures().get(Failure.MISSING_ID).samples());
+        assertEquals(List.of(23, 63, 103), sampledItems(report, Failure.MISSING_NAME));
+        assertEquals(List.of(31, 71, 111), sampledItems(report, Failure.MISSING_CATEGORY));
+        assertEquals(List.of(39, 79, 119), sampledItems(report, Failure.INVALID_TIMESTAMP));
+        for (ValidationReport.FailureStats stats : report.failures().values()) {
+            assertEquals(ValidationReport.MAX_SAMPLES, stats.samples().size());
+        }
+    }
+
+    @Test
+    void absentRatesCoverAcceptedProjectsOnly() throws IOException {
+        LandscapeParser.Ingestion ingestion = new LandscapeParser(objectMapper)
+            .ingest(new ByteArrayInputStream(LandscapeFixture.malformedJson()));
+        ValidationReport report = ingestion.validation();
+
+        // The items kept despite a malformed commit time have nothing but id, name, category and github_data
+        double bare = 62.0 / 2250;
+        for (Field field : List.of(Field.DESCRIPTION, Field.SUBCATEGORY, Field.HOMEPAGE, Field.REPOSITORY,
+                Field.LICENSE, Field.LATEST_VERSION, Field.ORGANIZATION, Field.LAST_COMMIT, Field.FIRST_COMMIT)) {
+            assertEquals(bare, report.absentRate(field), field.name());
+        }
+        assertEquals(0.0, report.absentRate(Field.GITHUB_DATA));
+        long withoutMaturity = ingestion.projects().stream().filter(p -> p.maturity().isEmpty()).count();
+        assertTrue(withoutMaturity > 62);
+        assertEquals((double) withoutMaturity / 2250, report.absentRate(Field.MATURITY));
+    }
+
+    @Test
+    void parallelParserReportsTheSame() throws IOException {
+        LandscapeParser.Ingestion sequential = new LandscapeParser(objectMapper)
+            .ingest(new ByteArrayInputStream(LandscapeFixture.malformedJson()));
+        LandscapeParser.Ingestion parallel = new LandscapeParser(objectMapper, executor, 4)
+            .ingest(new ByteArrayInputStream(LandscapeFixture.malformedJson()));
+
+        assertEquals(sequential.validation(), parallel.validation());
+        assertEquals(sequential.projects(), parallel.projects());
+    }
+
+    @Test
+    void valuesAreSharedAcrossParallelChunks() throws IOException {
+        List<CncfProject> projects = new LandscapeParser(objectMapper, executor, 4)
+            .parse(new ByteArrayInputStream(LandscapeFixture.json()));
+        CncfProject first = projects.getFirst();
+        // A project with the same category, maturity and tags, converted in another chunk
+        CncfProject other = projects.stream()
+            .skip(LandscapeParser.CHUNK_SIZE)
+            .filter(p -> p.category().equals(first.category()) && p.maturity().equals(first.maturity())
+                && p.tags().equals(first.tags()))
+            .findFirst()
+            .orElseThrow();
+
+        assertSame(first.category(), other.category());
+        assertSame(first.maturity(), other.maturity());
+        assertSame(first.tags(), other.tags());
+    }
+
+    private static Map<Failure, Integer> counts(ValidationReport report) {
+        Map<Failure, Integer> counts = new EnumMap<>(Failure.class);
+        report.failures().forEach((failure, stats) -> counts.put(failure, stats.count()));
+        return counts;
+    }
+
+    /**
+     * Item positions of the failure's samples, which read "item N" or "item N: reason".
+     */
+    private static List<Integer> sampledItems(ValidationReport report, Failure failure) {
+        return report.failures().get(failure).samples().stream()
+            .map(sample -> Integer.parseInt(sample.replaceFirst("^item (\\d+).*$", "$1")))
+            .toList();
+    }
+}
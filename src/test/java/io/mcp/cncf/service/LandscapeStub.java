@@ -0,0 +1,200 @@
+package io.mcp.cncf.service;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for the landscape server, serving {@code /full.json}.
+ *
+ * <p>Conditional requests are answered like a static file server would: with
+ * {@code 304 Not Modified} when If-None-Match matches the current ETag or, without
+ * an If-None-Match, when If-Modified-Since equals the current Last-Modified. Every
+ * request is recorded, and requests can be held until released to keep a refresh
+ * in flight.</p>
+ */
+final class LandscapeStub implements AutoCloseable {
+
+    /**
+     * One request received by the stub.
+     *
+     * @param ifNoneMatch If-None-Match header, or null if not sent
+     * @param ifModifiedSince If-Modified-Since header, or null if not sent
+     * @param status Status the stub answered with
+     */
+    record Request(String ifNoneMatch, String ifModifiedSince, int status) {
+    }
+
+    /**
+     * Document served and its validators.
+     */
+    private record Content(byte[] body, String etag, String lastModified) {
+    }
+
+    private static final Duration MAX_HOLD = Duration.ofSeconds(30);
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private volatile Content content = new Content(document(), null, null);
+    private volatile CountDownLatch gate;
+
+    private LandscapeStub(HttpServer server) {
+        this.server = server;
+        server.createContext("/full.json", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Starts a stub on a free loopback port.
+     */
+    static LandscapeStub start() throws IOException {
+        return new LandscapeStub(HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0));
+    }
+
+    /**
+     * Base URL of the stub, as configured for the landscape client.
+     */
+    String url() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Serves the document with the given validators from the next request on.
+     *
+     * @param body full.json bytes
+     * @param etag ETag to send and match, or null
+     * @param lastModified Last-Modified to send and match, or null
+     */
+    void serve(byte[] body, String etag, String lastModified) {
+        content = new Content(body, etag, lastModified);
+    }
+
+    /**
+     * Holds every request from now on until {@link #release()}.
+     */
+    void hold() {
+        gate = new CountDownLatch(1);
+    }
+
+    /**
+     * Lets held requests, and all later ones, be answered.
+     */
+    void release() {
+        CountDownLatch held = gate;
+        gate = null;
+        if (held != null) {
+            held.countDown();
+        }
+    }
+
+    /**
+     * Requests received since the last {@link #clearRequests()}, in arrival order.
+     * A held request is recorded when it arrives, with the status it will get.
+     */
+    List<Request> requests() {
+        return List.copyOf(requests);
+    }
+
+    Request lastRequest() {
+        return requests.getLast();
+    }
+
+    void clearRequests() {
+        requests.clear();
+    }
+
+    /**
+     * Waits until at least the given number of requests has arrived.
+     *
+     * @return True if they arrived within the timeout
+     */
+    boolean awaitRequests(int count, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (requests.size() < count) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        release();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            Headers headers = exchange.getRequestHeaders();
+            String ifNoneMatch = headers.getFirst("If-None-Match");
+            String ifModifiedSince = headers.getFirst("If-Modified-Since");
+            Content current = content;
+            boolean notModified = ifNoneMatch != null
+                ? ifNoneMatch.equals(current.etag())
+                : ifModifiedSince != null && ifModifiedSince.equals(current.lastModified());
+            int status = notModified ? 304 : 200;
+            requests.add(new Request(ifNoneMatch, ifModifiedSince, status));
+
+            CountDownLatch held = gate;
+            if (held != null) {
+                held.await(MAX_HOLD.toMillis(), TimeUnit.MILLISECONDS);
+            }
+
+            if (current.etag() != null) {
+                exchange.getResponseHeaders().set("ETag", current.etag());
+            }
+            if (current.lastModified() != null) {
+                exchange.getResponseHeaders().set("Last-Modified", current.lastModified());
+            }
+            if (notModified) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, current.body().length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(current.body());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Minimal full.json with one project per name, all in the same category.
+     *
+     * @param names Project names, also used as ids
+     * @return Document bytes
+     */
+    static byte[] document(String... names) {
+        StringBuilder json = new StringBuilder("{\"categories\":[],\"items\":[");
+        for (int i = 0; i < names.length; i++) {
+            json.append(i > 0 ? "," : "")
+                .append("{\"id\":\"").append(names[i].toLowerCase()).append("\",")
+                .append("\"name\":\"").append(names[i]).append("\",")
+                .append("\"category\":\"Runtime\",")
+                .append("\"description\":\"").append(names[i]).append(" project\"}");
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,38 @@
+package io.mcp.cncf.service;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Starts a {@link LandscapeStub} for the test application, points the landscape
+ * client at it and injects it into {@code LandscapeStub} fields of the test.
+ */
+public class LandscapeStubResource implements QuarkusTestResourceLifecycleManager {
+
+    private LandscapeStub stub;
+
+    @Override
+    public Map<String, String> start() {
+        try {
+            stub = LandscapeStub.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Map.of("quarkus.rest-client.cncf-landscape-api.url", stub.url());
+    }
+
+    @Override
+    public void inject(TestInjector testInjector) {
+        testInjector.injectIntoFields(stub, new TestInjector.MatchesType(LandscapeStub.class));
+    }
+
+    @Override
+    public void stop() {
+        if (stub != null) {
+            stub.close();
+        }
+    }
+}
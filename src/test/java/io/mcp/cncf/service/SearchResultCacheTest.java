@@ -0,0 +1,41 @@
+package io.mcp.cncf.service;
+
+import io.mcp.cncf.benchmark.LandscapeFixture;
+import io.mcp.cncf.model.CncfModel.SearchQuery;
+import io.mcp.cncf.model.CncfModel.SearchResult;
+import io.mcp.cncf.search.RankedResults;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SearchResultCacheTest {
+
+    private final LandscapeSnapshot snapshot = LandscapeFixture.snapshot();
+
+    @Test
+    void equivalentFiltersShareOneEntry() {
+        SearchResultCache cache = new SearchResultCache(16);
+
+        RankedResults ranked = cache.rank(snapshot, new SearchQuery("cloud", null, "cncf,open-source", "graduated, incubating", 5));
+        RankedResults again = cache.rank(snapshot, new SearchQuery("cloud", null, " Open-Source , CNCF,cncf", "Incubating,graduated", 50));
+
+        assertSame(ranked, again);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void anyLimitIsServedFromTheFirstRanking() {
+        SearchResultCache cache = new SearchResultCache(16);
+
+        SearchQuery query = new SearchQuery("cloud", null, null, null, 100);
+        cache.rank(snapshot, new SearchQuery("cloud", null, null, null, 1));
+        List<SearchResult> results = cache.rank(snapshot, query).toResults(snapshot.projects(), query);
+
+        assertEquals(snapshot.searchIndex().search(query), results);
+        assertEquals(1, cache.getMisses());
+    }
+}
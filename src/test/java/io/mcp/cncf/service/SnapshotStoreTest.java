@@ -0,0 +1,102 @@
+package io.mcp.cncf.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.mcp.cncf.benchmark.LandscapeFixture;
+import io.mcp.cncf.model.CncfModel.CncfProject;
+import io.mcp.cncf.model.CncfModel.ProjectMetadata;
+import io.mcp.cncf.service.SnapshotStore.StoredSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotStoreTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private final SnapshotStore store = new SnapshotStore();
+
+    @BeforeEach
+    void setUp() {
+        store.enabled = true;
+        store.cacheDir = cacheDir.toString();
+    }
+
+    @Test
+    void roundTripKeepsProjectsTheirHashesAndTheValidationReport() throws IOException {
+        LandscapeParser.Ingestion ingestion = new LandscapeParser(new ObjectMapper())
+            .ingest(new ByteArrayInputStream(LandscapeFixture.malformedJson()));
+        List<CncfProject> projects = new ArrayList<>(ingestion.projects());
+        projects.add(withCommitTimes(projects.getFirst(),
+            Instant.parse("2026-10-14T07:28:00.123456789Z"), Instant.parse("1969-12-31T23:59:59.999999999Z")));
+        StoredSnapshot stored = new StoredSnapshot(projects, ingestion.validation(),
+            Instant.parse("2026-10-14T07:30:00Z"), "\"v1\"", null);
+
+        store.save(stored.projects(), stored.validation(), stored.refreshedAt(), stored.etag(), stored.lastModified());
+        StoredSnapshot restored = store.load().orElseThrow();
+
+        assertEquals(stored, restored);
+        assertTrue(restored.validation().isAvailable());
+        for (int i = 0; i < projects.size(); i++) {
+            assertEquals(ContentHash.of(projects.get(i)), ContentHash.of(restored.projects().get(i)));
+        }
+    }
+
+    @Test
+    void missingReportStaysMissing() {
+        store.save(LandscapeFixture.projects(), ValidationReport.NONE, Instant.EPOCH, null, null);
+
+        assertSame(ValidationReport.NONE, store.load().orElseThrow().validation());
+    }
+
+    @Test
+    void restoredProjectsShareRepeatedValues() {
+        List<CncfProject> projects = LandscapeFixture.projects();
+        store.save(projects, ValidationReport.NONE, Instant.EPOCH, null, null);
+        List<CncfProject> restored = store.load().orElseThrow().projects();
+
+        CncfProject first = restored.getFirst();
+        CncfProject other = restored.stream()
+            .skip(1)
+            .filter(p -> p.category().equals(first.category()) && p.tags().equals(first.tags()))
+            .findFirst()
+            .orElseThrow();
+        assertSame(first.category(), other.category());
+        assertSame(first.tags(), other.tags());
+    }
+
+    @Test
+    void corruptFileIsDiscarded() throws IOException {
+        store.save(LandscapeFixture.projects(), ValidationReport.NONE, Instant.EPOCH, null, null);
+        Path file = store.snapshotFile();
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(file, bytes);
+
+        assertTrue(store.load().isEmpty());
+        assertFalse(Files.exists(file));
+    }
+
+    private static CncfProject withCommitTimes(CncfProject project, Instant lastCommit, Instant firstCommit) {
+        ProjectMetadata m = project.metadata();
+        ProjectMetadata metadata = new ProjectMetadata(m.creationDate(), m.acceptanceDate(), m.graduationDate(),
+            m.latestVersion(), m.license(), m.organization(), m.maintainers(), m.companies(), m.stars(), m.forks(),
+            m.contributors(), m.openIssues(), m.crdbBacked(), m.endUserSupport(), m.repoUrl(), m.homepage(),
+            lastCommit, firstCommit, m.contributorCount());
+        return new CncfProject("sub-millisecond", project.name() + " 2", project.category(), project.subcategory(),
+            project.description(), project.homepageUrl(), project.repoUrl(), project.maturity(), project.tags(), metadata);
+    }
+}